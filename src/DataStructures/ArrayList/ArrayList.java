@@ -3,29 +3,56 @@ package DataStructures.ArrayList;
 import DataStructures.Exceptions.EmptyCollectionException;
 import DataStructures.Exceptions.NoSuchElementException;
 import DataStructures.Iterator;
+import java.util.Arrays;
+import java.util.Spliterator;
 
 /**
  * ArrayList is an abstract base class representing a list implemented using a
  * dynamic array. Maintains a rear pointer tracking the number of elements and
  * provides common operations for adding, removing, and accessing elements.
  * Subclasses implement specific insertion strategies (ordered vs unordered).
- * The underlying array has a default capacity of 100 elements.
+ * The underlying array is only allocated on the first insertion, sized by the
+ * capacity hint given at construction or DEFAULT_CAPACITY otherwise, and then
+ * grows by half its length whenever it fills up.
  *
  * @param <T> the type of elements stored in this list
  */
 public abstract class ArrayList<T> implements ListADT<T> {
 
-    protected final int DEFAULT_CAPACITY = 100;
+    protected final int DEFAULT_CAPACITY = 10;
     protected int rear;
     protected T[] list;
 
+    /**
+     * Shared zero-length array used by every list that has not stored anything yet.
+     */
+    private static final Object[] EMPTY_LIST = {};
+
+    /**
+     * Number of slots to allocate on the first insertion.
+     */
+    private final int initialCapacity;
+
     /**
      * Creates a new empty ArrayList with default capacity.
-     * Initializes the list array with DEFAULT_CAPACITY elements and sets rear to zero.
+     * No array is allocated until the first element is added.
      */
-    @SuppressWarnings("unchecked")
     public ArrayList() {
-        list = (T[]) (new Object[DEFAULT_CAPACITY]);
+        this(-1);
+    }
+
+    /**
+     * Creates a new empty ArrayList that allocates room for the given number of
+     * elements on the first insertion. Callers that know how many elements the
+     * list will hold avoid both the default allocation and later growth.
+     *
+     * @param initialCapacity the expected number of elements, or a negative
+     *        value to use DEFAULT_CAPACITY
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+        list = (T[]) EMPTY_LIST;
         rear = 0;
     }
 
@@ -45,9 +72,7 @@ public abstract class ArrayList<T> implements ListADT<T> {
         }
         T result = list[0];
         // Shift all elements one position to the left, filling the gap at index 0
-        for (int i = 0; i < rear - 1; i++) {
-            list[i] = list[i + 1];
-        }
+        System.arraycopy(list, 1, list, 0, rear - 1);
         list[--rear] = null;
         return result;
     }
@@ -98,9 +123,7 @@ public abstract class ArrayList<T> implements ListADT<T> {
         }
         T result = list[index];
         // Shift all elements after the removed element one position to the left
-        for (int i = index; i < rear - 1; i++) {
-            list[i] = list[i + 1];
-        }
+        System.arraycopy(list, index + 1, list, index, rear - index - 1);
         list[--rear] = null;
         return result;
     }
@@ -121,9 +144,7 @@ public abstract class ArrayList<T> implements ListADT<T> {
         }
         T result = list[index];
         // Shift all elements after the removed element one position to the left
-        for (int i = index; i < rear - 1; i++) {
-            list[i] = list[i + 1];
-        }
+        System.arraycopy(list, index + 1, list, index, rear - index - 1);
         list[--rear] = null;
         return result;
     }
@@ -222,6 +243,38 @@ public abstract class ArrayList<T> implements ListADT<T> {
         return new ArrayIterator<>(list, rear);
     }
 
+    /**
+     * Returns a spliterator over the elements in this list that splits the
+     * array in halves, each knowing its exact size, so parallel streams over
+     * this list divide the work evenly.
+     *
+     * @return an ArraySpliterator for this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(list, rear);
+    }
+
+    /**
+     * Makes sure the backing array can hold at least the given number of elements.
+     * The first allocation uses the capacity hint, or DEFAULT_CAPACITY if none was
+     * given; later ones grow the array by half its length, or more if needed.
+     *
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    protected void ensureCapacity(int minCapacity) {
+        if (minCapacity <= list.length) {
+            return;
+        }
+        int newCapacity;
+        if (list.length == 0) {
+            newCapacity = (initialCapacity >= 0) ? initialCapacity : DEFAULT_CAPACITY;
+        } else {
+            newCapacity = list.length + (list.length >> 1);
+        }
+        list = Arrays.copyOf(list, Math.max(newCapacity, minCapacity));
+    }
+
     /**
      * Returns a string representation of this list.
      * Constructs a formatted string enclosed in brackets with comma-separated elements.
@@ -0,0 +1,110 @@
+package DataStructures.ArrayList;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * ArraySpliterator traverses and splits a range of an array-based collection.
+ * Splitting hands the lower half of the remaining range to a new spliterator,
+ * so both halves know their exact size and can be split again in O(1). This
+ * lets parallel streams divide the work evenly between threads. The collection
+ * should not be modified while the spliterator is in use.
+ *
+ * @param <T> the type of elements returned by this spliterator
+ */
+public class ArraySpliterator<T> implements Spliterator<T> {
+
+    private final T[] items;
+    private int current;
+    private final int end;
+
+    /**
+     * Creates a new ArraySpliterator over the first size elements of the array.
+     *
+     * @param collection the array containing the elements
+     * @param size the number of valid elements in the array
+     */
+    public ArraySpliterator(T[] collection, int size) {
+        this(collection, 0, size);
+    }
+
+    /**
+     * Creates a new ArraySpliterator over the elements from origin (inclusive)
+     * to end (exclusive).
+     *
+     * @param collection the array containing the elements
+     * @param origin the index of the first element
+     * @param end the index after the last element
+     */
+    private ArraySpliterator(T[] collection, int origin, int end) {
+        this.items = collection;
+        this.current = origin;
+        this.end = end;
+    }
+
+    /**
+     * Performs the action on the next element, if there is one.
+     *
+     * @param action the action to perform
+     * @return true if an element was processed, false if the range is exhausted
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (current >= end) {
+            return false;
+        }
+        action.accept(items[current++]);
+        return true;
+    }
+
+    /**
+     * Performs the action on every remaining element, in order.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        int i = current;
+        current = end;
+        for (; i < end; i++) {
+            action.accept(items[i]);
+        }
+    }
+
+    /**
+     * Splits off the lower half of the remaining range.
+     *
+     * @return a spliterator over the lower half, or null if fewer than two elements remain
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        int mid = (current + end) >>> 1;
+        if (mid <= current) {
+            return null;
+        }
+        Spliterator<T> prefix = new ArraySpliterator<>(items, current, mid);
+        current = mid;
+        return prefix;
+    }
+
+    /**
+     * Returns the exact number of elements left in the range.
+     *
+     * @return the number of remaining elements
+     */
+    @Override
+    public long estimateSize() {
+        return end - current;
+    }
+
+    /**
+     * Returns the characteristics of this spliterator: ordered, with an exact
+     * size that stays exact for the halves produced by trySplit().
+     *
+     * @return ORDERED, SIZED and SUBSIZED
+     */
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -20,6 +20,16 @@ public class ArrayUnorderedList<T> extends ArrayList<T> implements UnorderedList
         super();
     }
 
+    /**
+     * Creates a new empty ArrayUnorderedList sized for the given number of elements.
+     * Delegates initialization to parent ArrayList class.
+     *
+     * @param initialCapacity the expected number of elements
+     */
+    public ArrayUnorderedList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
     /**
      * Inserts the specified element at the front of this list.
      * Shifts all existing elements one position to the right to make room.
@@ -29,14 +39,10 @@ public class ArrayUnorderedList<T> extends ArrayList<T> implements UnorderedList
      */
     @Override
     public void addToFront(T element) {
-        if (rear == list.length) {
-            expandCapacity();
-        }
+        ensureCapacity(rear + 1);
 
-        // Shift all elements one position to the right, starting from the end
-        for (int i = rear; i > 0; i--) {
-            list[i] = list[i - 1];
-        }
+        // Shift all elements one position to the right
+        System.arraycopy(list, 0, list, 1, rear);
 
         list[0] = element;
         rear++;
@@ -51,9 +57,7 @@ public class ArrayUnorderedList<T> extends ArrayList<T> implements UnorderedList
      */
     @Override
     public void addToRear(T element) {
-        if (rear == list.length) {
-            expandCapacity();
-        }
+        ensureCapacity(rear + 1);
         list[rear++] = element;
     }
 
@@ -69,9 +73,7 @@ public class ArrayUnorderedList<T> extends ArrayList<T> implements UnorderedList
      */
     @Override
     public void addAfter(T element, T target) {
-        if (rear == list.length) {
-            expandCapacity();
-        }
+        ensureCapacity(rear + 1);
 
         // Search for the target element in the list
         int index = -1;
@@ -85,10 +87,8 @@ public class ArrayUnorderedList<T> extends ArrayList<T> implements UnorderedList
             throw new NoSuchElementException("Elemento não encontrado.");
         }
 
-        // Shift elements starting from the end to index+1, creating space at index+1
-        for (int i = rear; i > index + 1; i--) {
-            list[i] = list[i - 1];
-        }
+        // Shift the elements after index one position to the right, creating space at index+1
+        System.arraycopy(list, index + 1, list, index + 2, rear - index - 1);
 
         list[index + 1] = element;
         rear++;
@@ -118,19 +118,4 @@ public class ArrayUnorderedList<T> extends ArrayList<T> implements UnorderedList
         }
         return list[index];
     }
-
-    /**
-     * Expands the capacity of this list by doubling its current size.
-     * Copies all existing elements to the larger array while preserving their order.
-     * Called automatically when the list reaches capacity during insertion operations.
-     */
-    private void expandCapacity() {
-        // Create new array with doubled capacity
-        T[] newList = (T[]) new Object[list.length * 2];
-        // Copy all existing elements to the new larger array
-        for (int i = 0; i < rear; i++) {
-            newList[i] = list[i];
-        }
-        list = newList;
-    }
 }
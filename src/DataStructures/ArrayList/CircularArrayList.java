@@ -0,0 +1,340 @@
+package DataStructures.ArrayList;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Iterator;
+
+/**
+ * CircularArrayList is an unordered list stored in a circular buffer, so it
+ * can be used as a deque. The elements occupy the slots from front to
+ * front + count - 1, wrapping around the end of the array, which lets both ends
+ * grow and shrink without shifting: addToFront, addToRear, removeFirst and
+ * removeLast run in amortised O(1) time, and get(index) in O(1). The array
+ * length is always a power of two, so wrapping is a bit mask. Operations in
+ * the middle of the list (addAfter, remove) still shift elements in O(n).
+ *
+ * @param <T> the type of elements stored in this list
+ */
+public class CircularArrayList<T> implements UnorderedListADT<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private T[] list;
+    private int front;
+    private int count;
+
+    /**
+     * Creates a new empty CircularArrayList with default capacity.
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty CircularArrayList with room for at least the given
+     * number of elements before it has to grow.
+     *
+     * @param initialCapacity the expected number of elements
+     */
+    @SuppressWarnings("unchecked")
+    public CircularArrayList(int initialCapacity) {
+        int capacity = 1;
+        while (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        list = (T[]) new Object[capacity];
+        front = 0;
+        count = 0;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list by moving the
+     * front one slot back. Operates in O(1) time (amortized).
+     *
+     * @param element the element to be inserted at the front
+     */
+    @Override
+    public void addToFront(T element) {
+        if (count == list.length) {
+            expandCapacity();
+        }
+        front = (front - 1) & (list.length - 1);
+        list[front] = element;
+        count++;
+    }
+
+    /**
+     * Appends the specified element to the rear of this list.
+     * Operates in O(1) time (amortized).
+     *
+     * @param element the element to be appended to the rear
+     */
+    @Override
+    public void addToRear(T element) {
+        if (count == list.length) {
+            expandCapacity();
+        }
+        list[slot(count)] = element;
+        count++;
+    }
+
+    /**
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to this list
+     */
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    /**
+     * Inserts the specified element immediately after the first occurrence of
+     * the target element, shifting the following elements one position towards
+     * the rear. Operates in O(n) time.
+     *
+     * @param element the element to be inserted
+     * @param target the element after which the new element should be placed
+     * @throws NoSuchElementException if target element is not found in the list
+     */
+    @Override
+    public void addAfter(T element, T target) {
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new NoSuchElementException("Elemento não encontrado.");
+        }
+        if (count == list.length) {
+            expandCapacity();
+        }
+
+        // Shift the elements after index one position towards the rear
+        for (int i = count; i > index + 1; i--) {
+            list[slot(i)] = list[slot(i - 1)];
+        }
+        list[slot(index + 1)] = element;
+        count++;
+    }
+
+    /**
+     * Removes and returns the element at the front of this list by moving the
+     * front one slot forward. Operates in O(1) time.
+     *
+     * @return the element that was at the front of this list
+     * @throws EmptyCollectionException if the list is empty
+     */
+    @Override
+    public T removeFirst() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Lista vazia.");
+        }
+        T result = list[front];
+        list[front] = null;
+        front = (front + 1) & (list.length - 1);
+        count--;
+        return result;
+    }
+
+    /**
+     * Removes and returns the element at the rear of this list.
+     * Operates in O(1) time.
+     *
+     * @return the element that was at the rear of this list
+     * @throws EmptyCollectionException if the list is empty
+     */
+    @Override
+    public T removeLast() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Lista vazia.");
+        }
+        int last = slot(count - 1);
+        T result = list[last];
+        list[last] = null;
+        count--;
+        return result;
+    }
+
+    /**
+     * Removes and returns the first occurrence of the specified element from
+     * this list, shifting the following elements one position towards the front.
+     * Operates in O(n) time.
+     *
+     * @param element the element to be removed from this list
+     * @return the element that was removed
+     * @throws EmptyCollectionException if the list is empty
+     * @throws NoSuchElementException if the element is not found in this list
+     */
+    @Override
+    public T remove(T element) throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Lista vazia.");
+        }
+        int index = indexOf(element);
+        if (index == -1) {
+            throw new NoSuchElementException("Elemento não encontrado.");
+        }
+        T result = list[slot(index)];
+        for (int i = index; i < count - 1; i++) {
+            list[slot(i)] = list[slot(i + 1)];
+        }
+        list[slot(count - 1)] = null;
+        count--;
+        return result;
+    }
+
+    /**
+     * Returns the element at the specified index in this list, counting from
+     * the front. Operates in O(1) time.
+     *
+     * @param index the index of the element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if index is negative or greater than or equal to size()
+     */
+    public T get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException();
+        }
+        return list[slot(index)];
+    }
+
+    /**
+     * Returns the element at the front of this list without removing it.
+     *
+     * @return the element at the front of this list
+     * @throws EmptyCollectionException if the list is empty
+     */
+    @Override
+    public T first() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Lista vazia.");
+        }
+        return list[front];
+    }
+
+    /**
+     * Returns the element at the rear of this list without removing it.
+     *
+     * @return the element at the rear of this list
+     * @throws EmptyCollectionException if the list is empty
+     */
+    @Override
+    public T last() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Lista vazia.");
+        }
+        return list[slot(count - 1)];
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     * Operates in O(n) time.
+     *
+     * @param target the element to search for
+     * @return true if the element is found in this list, false otherwise
+     */
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) != -1;
+    }
+
+    /**
+     * Returns true if this list is empty, false otherwise.
+     *
+     * @return true if this list contains no elements, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns an iterator over the elements of this list, from front to rear.
+     *
+     * @return an Iterator for this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < count;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return list[slot(current++)];
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of this list, from front to rear.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            sb.append(list[slot(i)]);
+            if (i < count - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the array slot holding the element at the given list index.
+     *
+     * @param index the list index, counting from the front
+     * @return the position of that element in the array
+     */
+    private int slot(int index) {
+        return (front + index) & (list.length - 1);
+    }
+
+    /**
+     * Returns the list index of the first element equal to the target.
+     *
+     * @param target the element to search for
+     * @return the index of the element, or -1 if it is not in this list
+     */
+    private int indexOf(T target) {
+        for (int i = 0; i < count; i++) {
+            if (list[slot(i)].equals(target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Doubles the capacity of this list, unwrapping the elements so the front
+     * moves back to slot 0. Only called when the array is full.
+     */
+    @SuppressWarnings("unchecked")
+    private void expandCapacity() {
+        T[] larger = (T[]) new Object[list.length * 2];
+        // Copy the part from front to the end of the array, then the wrapped part
+        int tail = list.length - front;
+        System.arraycopy(list, front, larger, 0, tail);
+        System.arraycopy(list, 0, larger, tail, front);
+        list = larger;
+        front = 0;
+    }
+}
@@ -2,8 +2,10 @@ package DataStructures.ArrayList;
 
 import DataStructures.Exceptions.EmptyCollectionException;
 import DataStructures.Iterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface ListADT<T> {
+public interface ListADT<T> extends Iterable<T> {
 
     /**
      * Removes and returns the first element from this list.
@@ -67,8 +69,29 @@ public interface ListADT<T> {
      *
      * @return an iterator over the elements in this list
      */
+    @Override
     public Iterator<T> iterator();
 
+    /**
+     * Returns a sequential stream over the elements in this list.
+     *
+     * @return a stream over the elements in this list
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements in this list. How well the
+     * work is divided between threads depends on how the list splits its
+     * spliterator().
+     *
+     * @return a possibly parallel stream over the elements in this list
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Returns a string representation of this list.
      *
@@ -0,0 +1,126 @@
+package DataStructures.DisjointSet;
+
+/**
+ * DisjointSet is a union-find forest stored in an int array: each element
+ * points to its parent, and roots point to themselves. Union by rank hangs the
+ * shorter tree under the taller one, and find compresses the path it walked
+ * so every visited element points straight at the root. Together they make
+ * any sequence of find and union calls run in O(α(n)) amortised time per call,
+ * where α is the inverse Ackermann function, effectively a small constant.
+ */
+public class DisjointSet implements DisjointSetADT {
+
+    private final int[] parent;
+    // Upper bound on the height of each root's tree; ranks never exceed log2(n)
+    private final byte[] rank;
+    private int setCount;
+
+    /**
+     * Creates a new DisjointSet over the elements 0 to size - 1, each in a set
+     * of its own.
+     *
+     * @param size the number of elements
+     */
+    public DisjointSet(int size) {
+        this.parent = new int[size];
+        this.rank = new byte[size];
+        reset();
+    }
+
+    /**
+     * Returns the root of the set containing the given element, then points
+     * every element on the walked path directly at that root.
+     *
+     * @param element the element to look up
+     * @return the root of its set
+     * @throws IndexOutOfBoundsException if the element is outside 0 to size() - 1
+     */
+    @Override
+    public int find(int element) {
+        int root = element;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Path compression: second pass re-links the walked elements to the root
+        while (parent[element] != root) {
+            int next = parent[element];
+            parent[element] = root;
+            element = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the sets containing two elements, hanging the root of lower rank
+     * under the root of higher rank.
+     *
+     * @param element1 an element of the first set
+     * @param element2 an element of the second set
+     * @return true if the sets were merged, false if both elements were already in the same set
+     * @throws IndexOutOfBoundsException if an element is outside 0 to size() - 1
+     */
+    @Override
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+
+        if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        setCount--;
+        return true;
+    }
+
+    /**
+     * Returns true if two elements belong to the same set.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if both elements have the same root
+     * @throws IndexOutOfBoundsException if an element is outside 0 to size() - 1
+     */
+    @Override
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of disjoint sets.
+     *
+     * @return the number of sets
+     */
+    @Override
+    public int getSetCount() {
+        return setCount;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    @Override
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Puts every element back in a set of its own, reusing the arrays.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            rank[i] = 0;
+        }
+        setCount = parent.length;
+    }
+}
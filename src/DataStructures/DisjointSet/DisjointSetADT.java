@@ -0,0 +1,57 @@
+package DataStructures.DisjointSet;
+
+/**
+ * DisjointSetADT defines a union-find structure over the integer elements
+ * 0 to size() - 1. Each element belongs to exactly one set; sets can be merged
+ * but never split, and each set is named by one of its elements, its root.
+ */
+public interface DisjointSetADT {
+
+    /**
+     * Returns the root of the set containing the given element.
+     *
+     * @param element the element to look up
+     * @return the root of its set
+     * @throws IndexOutOfBoundsException if the element is outside 0 to size() - 1
+     */
+    public int find(int element);
+
+    /**
+     * Merges the sets containing two elements.
+     *
+     * @param element1 an element of the first set
+     * @param element2 an element of the second set
+     * @return true if the sets were merged, false if both elements were already in the same set
+     * @throws IndexOutOfBoundsException if an element is outside 0 to size() - 1
+     */
+    public boolean union(int element1, int element2);
+
+    /**
+     * Returns true if two elements belong to the same set.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if both elements are in the same set
+     * @throws IndexOutOfBoundsException if an element is outside 0 to size() - 1
+     */
+    public boolean connected(int element1, int element2);
+
+    /**
+     * Returns the number of disjoint sets.
+     *
+     * @return the number of sets
+     */
+    public int getSetCount();
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size();
+
+    /**
+     * Puts every element back in a set of its own.
+     */
+    public void reset();
+}
@@ -2,10 +2,11 @@ package DataStructures.Exceptions;
 
 /**
  * NoSuchElementException is thrown when an attempt is made to access an element
- * that does not exist in a collection or iterator. Extends RuntimeException to
- * allow unchecked throwing without explicit catch or throws declaration.
+ * that does not exist in a collection or iterator. Extends
+ * java.util.NoSuchElementException, so it stays unchecked and code written
+ * against java.util.Iterator, which catches the JDK exception, also catches it.
  */
-public class NoSuchElementException extends RuntimeException {
+public class NoSuchElementException extends java.util.NoSuchElementException {
     /**
      * Creates a new NoSuchElementException with no detail message.
      */
@@ -0,0 +1,225 @@
+package DataStructures.Graph;
+
+import java.util.Arrays;
+
+/**
+ * BitsetGraph is a Graph whose adjacency matrix is packed into bitsets: each
+ * row is a long[] holding one bit per column, so the matrix takes one eighth
+ * of the memory of boolean[][] and grows by copying whole words. Neighbour
+ * scans jump straight to set bits with Long.numberOfTrailingZeros instead of
+ * testing every column, and isConnected expands whole frontiers with bitwise
+ * unions of rows. Apart from the storage, it behaves exactly like Graph.
+ *
+ * @param <T> the type of the vertices of the graph
+ */
+public class BitsetGraph<T> extends Graph<T> {
+
+    private long[][] adjRows;
+
+    /**
+     * Creates an empty graph with bitset-packed adjacency rows.
+     */
+    public BitsetGraph() {
+        super();
+        // The packed rows replace the boolean matrix allocated by Graph
+        this.adjMatrix = null;
+        this.adjRows = new long[DEFAULT_CAPACITY][wordsFor(DEFAULT_CAPACITY)];
+    }
+
+    /**
+     * Returns true if this graph is connected, false otherwise. Starting from
+     * the first vertex, each round ORs the rows of the whole frontier together and keeps
+     * the bits not reached yet, so a round costs one pass over the frontier rows.
+     *
+     * @return true if this graph is connected
+     */
+    @Override
+    public boolean isConnected() {
+        if (isEmpty()) {
+            return false;
+        }
+
+        int start = 0;
+        while (!indexIsValid(start)) {
+            start++;
+        }
+
+        // Tombstoned slots have no edges, so they are never reached or counted
+        int words = wordsFor(slotCount);
+        long[] reached = new long[words];
+        long[] frontier = new long[words];
+        long[] next = new long[words];
+        reached[start >>> 6] = 1L << start;
+        frontier[start >>> 6] = 1L << start;
+        int count = 1;
+
+        while (count < numVertices) {
+            Arrays.fill(next, 0L);
+            for (int w = 0; w < words; w++) {
+                long bits = frontier[w];
+                while (bits != 0) {
+                    long[] row = adjRows[(w << 6) + Long.numberOfTrailingZeros(bits)];
+                    for (int k = 0; k < words; k++) {
+                        next[k] |= row[k];
+                    }
+                    bits &= bits - 1;
+                }
+            }
+
+            boolean grew = false;
+            for (int w = 0; w < words; w++) {
+                next[w] &= ~reached[w];
+                if (next[w] != 0) {
+                    reached[w] |= next[w];
+                    count += Long.bitCount(next[w]);
+                    grew = true;
+                }
+            }
+            if (!grew) {
+                break;
+            }
+
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+
+        return count == numVertices;
+    }
+
+    /**
+     * Returns the next vertex adjacent to the given one, in increasing index
+     * order, by skipping directly to the next set bit of its row.
+     *
+     * @param index the vertex whose neighbours are enumerated
+     * @param previous the neighbour returned by the previous call, or -1 to start
+     * @return the index of the next neighbour, or -1 if there are no more
+     */
+    @Override
+    protected int nextNeighbour(int index, int previous) {
+        int from = previous + 1;
+        if (from >= slotCount) {
+            return -1;
+        }
+        long[] row = adjRows[index];
+        int w = from >>> 6;
+        long bits = row[w] & (-1L << from);
+        int words = wordsFor(slotCount);
+
+        while (true) {
+            if (bits != 0) {
+                int next = (w << 6) + Long.numberOfTrailingZeros(bits);
+                return (next < slotCount) ? next : -1;
+            }
+            if (++w >= words) {
+                return -1;
+            }
+            bits = row[w];
+        }
+    }
+
+    // ----------------------------------------------------------------
+    // Edge Storage
+    // ----------------------------------------------------------------
+    /**
+     * Returns true if the bit for one index is set in the row of another.
+     *
+     * @param index1 the first index
+     * @param index2 the second index
+     * @return true if the edge exists
+     */
+    @Override
+    protected boolean hasEdge(int index1, int index2) {
+        return (adjRows[index1][index2 >>> 6] & (1L << index2)) != 0;
+    }
+
+    /**
+     * Sets or clears one direction of an edge in the packed rows.
+     *
+     * @param index1 the first index
+     * @param index2 the second index
+     * @param present true to add the edge, false to remove it
+     */
+    @Override
+    protected void setEdge(int index1, int index2, boolean present) {
+        if (present) {
+            adjRows[index1][index2 >>> 6] |= 1L << index2;
+        } else {
+            adjRows[index1][index2 >>> 6] &= ~(1L << index2);
+        }
+    }
+
+    /**
+     * Clears the row and column of a newly used index.
+     *
+     * @param index the index being taken by a new vertex
+     */
+    @Override
+    protected void clearEdges(int index) {
+        Arrays.fill(adjRows[index], 0L);
+        long keep = ~(1L << index);
+        for (int i = 0; i < slotCount; i++) {
+            adjRows[i][index >>> 6] &= keep;
+        }
+    }
+
+    /**
+     * Renumbers the packed rows after compact() moved the vertices: each live
+     * row is rebuilt with its set bits moved to their new columns and stored
+     * at its new position, and the rows beyond the new bound are cleared.
+     *
+     * @param newIndex the new index of each old index, or -1 for former tombstones
+     * @param oldBound the slot count before compacting
+     * @param newBound the slot count after compacting
+     */
+    @Override
+    protected void compactEdges(int[] newIndex, int oldBound, int newBound) {
+        int words = adjRows[0].length;
+        long[][] compacted = new long[adjRows.length][];
+        for (int i = 0; i < oldBound; i++) {
+            if (newIndex[i] == -1) {
+                continue;
+            }
+            long[] row = new long[words];
+            for (int w = 0; w < words; w++) {
+                long bits = adjRows[i][w];
+                while (bits != 0) {
+                    int j = newIndex[(w << 6) + Long.numberOfTrailingZeros(bits)];
+                    row[j >>> 6] |= 1L << j;
+                    bits &= bits - 1;
+                }
+            }
+            compacted[newIndex[i]] = row;
+        }
+        for (int i = newBound; i < compacted.length; i++) {
+            compacted[i] = new long[words];
+        }
+        adjRows = compacted;
+    }
+
+    /**
+     * Grows the packed rows to the given capacity, copying existing words.
+     *
+     * @param capacity the new number of rows and columns
+     */
+    @Override
+    protected void expandEdges(int capacity) {
+        int words = wordsFor(capacity);
+        long[][] largerRows = new long[capacity][];
+
+        for (int i = 0; i < capacity; i++) {
+            largerRows[i] = (i < slotCount) ? Arrays.copyOf(adjRows[i], words) : new long[words];
+        }
+        adjRows = largerRows;
+    }
+
+    /**
+     * Returns the number of longs needed to hold the given number of bits.
+     *
+     * @param bits the number of bits
+     * @return the number of 64-bit words
+     */
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
@@ -0,0 +1,172 @@
+package DataStructures.Graph;
+
+/**
+ * ChokepointAnalysis finds the bridges and articulation points of a GameGraph
+ * with Tarjan's depth-first search in O(V + E) time. A bridge is a passage
+ * whose removal splits the map, so there is no detour around it; an
+ * articulation point is a room whose removal does the same. Every passage
+ * counts, locked or not, so the result describes the layout of the maze
+ * rather than the current lever states.
+ *
+ * The search records for each room its discovery time, its parent in the
+ * depth-first tree and its low-link (the earliest discovery time reachable
+ * from its subtree through one back edge). With those three arrays kept, both
+ * "is this passage a bridge" and "is this room an articulation point" are
+ * answered in O(1). The search is iterative, so large maps cannot overflow the
+ * call stack.
+ */
+class ChokepointAnalysis {
+
+    private final int[] discovery;
+    private final int[] low;
+    private final int[] parent;
+    private final boolean[] articulation;
+    private int bridgeCount;
+    private int articulationCount;
+
+    /**
+     * Runs the analysis over every room and passage of the graph.
+     *
+     * @param graph the graph to analyse
+     */
+    ChokepointAnalysis(GameGraph graph) {
+        int bound = graph.indexBound();
+        this.discovery = new int[bound];
+        this.low = new int[bound];
+        this.parent = new int[bound];
+        this.articulation = new boolean[bound];
+
+        // Last neighbour scanned by each room still on the stack
+        int[] cursor = new int[bound];
+        int[] stack = new int[bound];
+        int time = 0;
+
+        for (int root = 0; root < bound; root++) {
+            if (!graph.indexIsValid(root) || discovery[root] != 0) {
+                continue;
+            }
+            int top = 0;
+            int rootChildren = 0;
+            stack[top++] = root;
+            parent[root] = -1;
+            cursor[root] = -1;
+            discovery[root] = low[root] = ++time;
+
+            while (top > 0) {
+                int u = stack[top - 1];
+                int v = graph.nextNeighbour(u, cursor[u]);
+
+                if (v != -1) {
+                    cursor[u] = v;
+                    if (discovery[v] == 0) {
+                        // Tree edge: descend into v
+                        parent[v] = u;
+                        cursor[v] = -1;
+                        discovery[v] = low[v] = ++time;
+                        stack[top++] = v;
+                        if (u == root) {
+                            rootChildren++;
+                        }
+                    } else if (v != parent[u]) {
+                        // Back edge: u's subtree reaches an ancestor
+                        low[u] = Math.min(low[u], discovery[v]);
+                    }
+                } else {
+                    // u is finished: pass its low-link up and test the tree edge above it
+                    top--;
+                    int p = parent[u];
+                    if (p != -1) {
+                        low[p] = Math.min(low[p], low[u]);
+                        if (low[u] > discovery[p]) {
+                            bridgeCount++;
+                        }
+                        if (p != root && low[u] >= discovery[p] && !articulation[p]) {
+                            articulation[p] = true;
+                            articulationCount++;
+                        }
+                    }
+                }
+            }
+
+            // The root is a cut vertex only if the search left it more than once
+            if (rootChildren > 1) {
+                articulation[root] = true;
+                articulationCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the passage between two rooms is a bridge. Bridges are
+     * always tree edges of the search, so it suffices to check whether one room
+     * is the parent of the other and the child's subtree has no way around it.
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return true if the rooms share a passage and that passage is a bridge
+     */
+    boolean isBridge(int index1, int index2) {
+        if (!covers(index1) || !covers(index2)) {
+            return false;
+        }
+        if (parent[index2] == index1 && discovery[index2] != 0) {
+            return low[index2] > discovery[index1];
+        }
+        if (parent[index1] == index2 && discovery[index1] != 0) {
+            return low[index1] > discovery[index2];
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the room at the given index is an articulation point.
+     *
+     * @param index the index of the room
+     * @return true if removing the room would split its component
+     */
+    boolean isArticulationPoint(int index) {
+        return covers(index) && articulation[index];
+    }
+
+    /**
+     * Returns the parent of a room in the depth-first forest. Every bridge joins
+     * a room to its parent.
+     *
+     * @param index the index of the room
+     * @return the index of its parent, or -1 for roots and unvisited indices
+     */
+    int parentOf(int index) {
+        if (!covers(index) || discovery[index] == 0) {
+            return -1;
+        }
+        return parent[index];
+    }
+
+    /**
+     * Returns the number of bridges found.
+     *
+     * @return the number of bridges
+     */
+    int getBridgeCount() {
+        return bridgeCount;
+    }
+
+    /**
+     * Returns the number of articulation points found.
+     *
+     * @return the number of articulation points
+     */
+    int getArticulationCount() {
+        return articulationCount;
+    }
+
+    /**
+     * Returns true if the index lies within the range this analysis covers.
+     *
+     * @param index the index to check
+     * @return true if the index was part of the analysed range
+     */
+    private boolean covers(int index) {
+        return index >= 0 && index < discovery.length;
+    }
+}
@@ -0,0 +1,743 @@
+package DataStructures.Graph;
+
+import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Iterator;
+import DataStructures.PriorityQueue.IndexedMinPriorityQueue;
+import Models.Room;
+import java.util.Arrays;
+
+/**
+ * CorridorGraph is a contracted view of a GridGraph. A maze is mostly made of
+ * corridors: rooms with exactly two unlocked passages. Each maximal chain of
+ * corridor rooms is collapsed into one weighted edge between the two rooms
+ * that end it. Those end rooms are the junctions: every room with any other
+ * number of unlocked passages.
+ *
+ * For every corridor room the graph stores its chain and its position in it,
+ * so paths found between junctions are expanded back into individual rooms
+ * for movement.
+ *
+ * Searches then settle one junction per chain instead of walking it cell by
+ * cell. CorridorGraph serves as a PathfindingStrategy for its grid (A* over
+ * junctions) and computes distance fields (Dijkstra over junctions with a
+ * bucket queue, then one pass filling in the corridors).
+ *
+ * It listens to its grid. A wall break or a lock toggle only dissolves the
+ * chains around the two rooms of the changed passage, and those chains are
+ * traced again before the next query. A chain that closes on itself with no
+ * junction gets one of its rooms promoted to junction.
+ */
+public class CorridorGraph implements PathfindingStrategy, TopologyListener {
+
+    private static final int JUNCTION = -1;
+    private static final int UNASSIGNED = -2;
+
+    private final GridGraph grid;
+    private final int width;
+    private final int height;
+    // Chain of each corridor room, or JUNCTION
+    private final int[] chainOf;
+    // Position of each corridor room in its chain, counted from end A
+    private final int[] chainPos;
+    // Per chain: its rooms in order from end A to end B, their number, and its
+    // two end junctions; searches read the lengths without touching the rooms
+    private int[][] chainCells;
+    private int[] chainLength;
+    private int[] chainA;
+    private int[] chainB;
+    private int[] freeChains;
+    private int freeCount;
+    private int chainBound;
+
+    private int[] pending;
+    private int pendingCount;
+    private int[] affected;
+    private int affectedCount;
+    private int[] trace;
+
+    // Bucket queue of distance field searches: a ring of lists of entries
+    private int[] bucketHead = new int[16];
+    private int[] entryCell = new int[16];
+    private int[] entryNext = new int[16];
+    private int bucketRing;
+    private int entryCount;
+    private int queued;
+
+    private final PathfindingStrategy fallback = new AStarPathfinder();
+
+    /**
+     * Contracts the corridors of a grid and registers as a topology listener
+     * of the grid.
+     *
+     * @param grid the grid to contract
+     */
+    public CorridorGraph(GridGraph grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        int cells = width * height;
+        this.chainOf = new int[cells];
+        this.chainPos = new int[cells];
+        this.chainCells = new int[16][];
+        this.chainLength = new int[16];
+        this.chainA = new int[16];
+        this.chainB = new int[16];
+        this.freeChains = new int[16];
+        this.pending = new int[16];
+        this.affected = new int[16];
+        this.trace = new int[16];
+
+        Arrays.fill(chainOf, UNASSIGNED);
+        for (int cell = 0; cell < cells; cell++) {
+            classify(cell);
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            if (chainOf[cell] == UNASSIGNED) {
+                traceChain(cell);
+            }
+        }
+        grid.addTopologyListener(this);
+    }
+
+    /**
+     * Queues both rooms of a changed passage, so the chains around them are
+     * traced again before the next query.
+     *
+     * @param from the source room of the changed connection
+     * @param to the destination room of the changed connection
+     * @param traversable true if the connection now exists and is unlocked
+     */
+    @Override
+    public synchronized void edgeChanged(Room from, Room to, boolean traversable) {
+        int index1 = grid.getIndex(from);
+        int index2 = grid.getIndex(to);
+        if (index1 != -1) {
+            pending = push(pending, pendingCount++, index1);
+        }
+        if (index2 != -1) {
+            pending = push(pending, pendingCount++, index2);
+        }
+    }
+
+    /**
+     * Returns the number of junctions, the nodes of the contracted graph.
+     *
+     * @return the number of junction rooms
+     */
+    public synchronized int getJunctionCount() {
+        update();
+        int count = 0;
+        for (int cell = 0; cell < chainOf.length; cell++) {
+            if (chainOf[cell] == JUNCTION && grid.indexIsValid(cell)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of corridors, the chains collapsed into single edges.
+     *
+     * @return the number of corridors
+     */
+    public synchronized int getCorridorCount() {
+        update();
+        return chainBound - freeCount;
+    }
+
+    /**
+     * Returns true if a room is a junction of the contracted graph.
+     *
+     * @param room the room to check
+     * @return true if the room ends corridors instead of lying inside one
+     */
+    public synchronized boolean isJunction(Room room) {
+        update();
+        int cell = grid.getIndex(room);
+        return cell != -1 && chainOf[cell] == JUNCTION;
+    }
+
+    // ----------------------------------------------------------------
+    // Queries
+    // ----------------------------------------------------------------
+    /**
+     * Returns the shortest path between two rooms, skipping locked passages,
+     * found with A* over the junctions and expanded back into rooms.
+     *
+     * @param graph the graph to search
+     * @param startIndex the index of the starting room
+     * @param targetIndex the index of the destination room
+     * @return an iterator over the rooms of the path from start to target,
+     * or an empty iterator if no path exists
+     */
+    @Override
+    public Iterator<Room> shortestPath(IndexedGraph<Room> graph, int startIndex, int targetIndex) {
+        if (graph != grid && !(graph instanceof FrozenGameGraph
+                && grid.isCurrentSnapshot((FrozenGameGraph) graph))) {
+            return fallback.shortestPath(graph, startIndex, targetIndex);
+        }
+
+        synchronized (this) {
+            update();
+            TraversalWorkspace ws = grid.acquireWorkspace();
+            try {
+                int expanded = search(ws, startIndex, targetIndex);
+                graph.recordSearch(expanded);
+                return expandPath(ws, startIndex, targetIndex);
+            } finally {
+                grid.releaseWorkspace(ws);
+            }
+        }
+    }
+
+    /**
+     * Returns the distance field to the room at the given coordinates: for
+     * every room, the number of unlocked steps that separate it from the target.
+     * Junctions are settled with Dijkstra's algorithm over a bucket queue, then
+     * every corridor room takes the nearer of its chain's two ends.
+     *
+     * @param targetX the column of the target room
+     * @param targetY the row of the target room
+     * @return a 2D array where dist[x][y] is the distance of room (x,y) to the
+     *         target, or Integer.MAX_VALUE if it is unreachable
+     */
+    public synchronized int[][] distancesTo(int targetX, int targetY) {
+        update();
+        int[][] dist = new int[width][height];
+        for (int x = 0; x < width; x++) {
+            Arrays.fill(dist[x], Integer.MAX_VALUE);
+        }
+        int target = targetY * width + targetX;
+        if (!grid.indexIsValid(target)) {
+            return dist;
+        }
+
+        TraversalWorkspace ws = grid.acquireWorkspace();
+        try {
+            settleAll(ws, target);
+            dist[targetX][targetY] = 0;
+            for (int cell = 0; cell < chainOf.length; cell++) {
+                if (chainOf[cell] == JUNCTION && ws.isReached(cell)) {
+                    dist[cell % width][cell / width] = (int) ws.distanceOf(cell);
+                }
+            }
+
+            int targetChain = chainOf[target];
+            for (int c = 0; c < chainBound; c++) {
+                int[] cells = chainCells[c];
+                if (cells == null) {
+                    continue;
+                }
+                int m = cells.length;
+                long toA = ws.isReached(chainA[c]) ? (long) ws.distanceOf(chainA[c]) : Integer.MAX_VALUE;
+                long toB = ws.isReached(chainB[c]) ? (long) ws.distanceOf(chainB[c]) : Integer.MAX_VALUE;
+                for (int i = 0; i < m; i++) {
+                    long best = Math.min(toA + i + 1, toB + m - i);
+                    if (c == targetChain) {
+                        best = Math.min(best, Math.abs(i - chainPos[target]));
+                    }
+                    if (best < Integer.MAX_VALUE) {
+                        dist[cells[i] % width][cells[i] / width] = (int) best;
+                    }
+                }
+            }
+        } finally {
+            grid.releaseWorkspace(ws);
+        }
+        return dist;
+    }
+
+    // ----------------------------------------------------------------
+    // Contracted Search
+    // ----------------------------------------------------------------
+    /**
+     * Searches the contracted graph from a room to another with A* and the
+     * Manhattan heuristic, stopping when the target is settled.
+     *
+     * @param ws the workspace receiving distances and parents
+     * @param start the start room, a junction or a corridor room
+     * @param target the target room
+     * @return the number of nodes expanded
+     */
+    private int search(TraversalWorkspace ws, int start, int target) {
+        IndexedMinPriorityQueue open = ws.heap();
+        double tieScale = chainOf.length + 1.0;
+        int targetChain = chainOf[target];
+        int expanded = 0;
+
+        ws.reach(start, -1, 0);
+        open.insert(start, 0);
+
+        while (!open.isEmpty()) {
+            int u;
+            try {
+                u = open.deleteMin();
+            } catch (EmptyCollectionException e) {
+                break;
+            }
+            if (u == target) {
+                break;
+            }
+            ws.visit(u);
+            expanded++;
+            expand(ws, open, u, target, targetChain, tieScale);
+        }
+        return expanded;
+    }
+
+    /**
+     * Settles every junction reachable from a room with Dijkstra's algorithm
+     * over a bucket queue. Contracted edges are whole numbers no longer than
+     * the longest chain plus one, so a ring of that many buckets indexed by
+     * distance replaces the heap.
+     *
+     * @param ws the workspace receiving distances and parents
+     * @param start the start room, a junction or a corridor room
+     */
+    private void settleAll(TraversalWorkspace ws, int start) {
+        int longest = 0;
+        for (int c = 0; c < chainBound; c++) {
+            longest = Math.max(longest, chainLength[c]);
+        }
+        int ring = longest + 2;
+        if (bucketHead.length < ring) {
+            bucketHead = new int[ring];
+        }
+        Arrays.fill(bucketHead, 0, ring, -1);
+        bucketRing = ring;
+        entryCount = 0;
+        queued = 0;
+
+        ws.reach(start, -1, 0);
+        enqueue(start, 0);
+        for (int d = 0; queued > 0; d++) {
+            int bucket = d % ring;
+            int entry = bucketHead[bucket];
+            bucketHead[bucket] = -1;
+            while (entry != -1) {
+                int u = entryCell[entry];
+                entry = entryNext[entry];
+                queued--;
+                // Entries left behind by a later decrease are skipped
+                if (!ws.isVisited(u) && ws.distanceOf(u) == d) {
+                    ws.visit(u);
+                    expand(ws, null, u, -1, JUNCTION, 1.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Relaxes every contracted edge leaving a node.
+     *
+     * @param ws the workspace of the search
+     * @param open the heap of an A* search, or null for the bucket queue
+     * @param u the node being expanded
+     * @param target the target room, or -1 for none
+     * @param targetChain the chain of the target room, or JUNCTION
+     * @param tieScale the divisor that keeps the tie-breaking term below one
+     */
+    private void expand(TraversalWorkspace ws, IndexedMinPriorityQueue open,
+            int u, int target, int targetChain, double tieScale) {
+        int c = chainOf[u];
+        if (c != JUNCTION) {
+            // Only the start can be a corridor room: leave it towards either end
+            int i = chainPos[u];
+            int m = chainLength[c];
+            relax(ws, open, u, chainA[c], i + 1, target, tieScale);
+            relax(ws, open, u, chainB[c], m - i, target, tieScale);
+            if (c == targetChain) {
+                relax(ws, open, u, target, Math.abs(i - chainPos[target]), target, tieScale);
+            }
+            return;
+        }
+
+        for (int n = grid.nextNeighbour(u, -1); n != -1; n = grid.nextNeighbour(u, n)) {
+            if (grid.isLocked(u, n)) {
+                continue;
+            }
+            int chain = chainOf[n];
+            if (chain == JUNCTION) {
+                relax(ws, open, u, n, 1, target, tieScale);
+                continue;
+            }
+            int m = chainLength[chain];
+            if (entersFromA(u, n, chain)) {
+                relax(ws, open, u, chainB[chain], m + 1, target, tieScale);
+                if (chain == targetChain) {
+                    relax(ws, open, u, target, chainPos[target] + 1, target, tieScale);
+                }
+            } else {
+                relax(ws, open, u, chainA[chain], m + 1, target, tieScale);
+                if (chain == targetChain) {
+                    relax(ws, open, u, target, m - chainPos[target], target, tieScale);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a node to the bucket of its distance.
+     *
+     * @param cell the node
+     * @param distance its tentative distance
+     */
+    private void enqueue(int cell, int distance) {
+        if (entryCount == entryCell.length) {
+            entryCell = Arrays.copyOf(entryCell, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        int bucket = distance % bucketRing;
+        entryCell[entryCount] = cell;
+        entryNext[entryCount] = bucketHead[bucket];
+        bucketHead[bucket] = entryCount++;
+        queued++;
+    }
+
+    /**
+     * Offers a shorter distance to a node through an edge of the contracted graph.
+     *
+     * @param ws the workspace of the search
+     * @param open the heap of an A* search, or null for the bucket queue
+     * @param u the node being expanded
+     * @param v the node at the other end of the edge
+     * @param cost the length of the edge
+     * @param target the target room for the heuristic
+     * @param tieScale the divisor that keeps the tie-breaking term below one
+     */
+    private void relax(TraversalWorkspace ws, IndexedMinPriorityQueue open,
+            int u, int v, int cost, int target, double tieScale) {
+        if (cost <= 0 || ws.isVisited(v)) {
+            return;
+        }
+        double alt = ws.distanceOf(u) + cost;
+        if (alt < ws.distanceOf(v)) {
+            ws.reach(v, u, alt);
+            if (open == null) {
+                enqueue(v, (int) alt);
+                return;
+            }
+            int h = heuristic(v, target);
+            double priority = alt + h + h / tieScale;
+            if (open.contains(v)) {
+                open.decreaseKey(v, priority);
+            } else {
+                open.insert(v, priority);
+            }
+        }
+    }
+
+    /**
+     * Turns the nodes of a contracted path into the rooms it walks through.
+     *
+     * @param ws the workspace holding the search result
+     * @param start the start room
+     * @param target the target room
+     * @return an iterator over the rooms from start to target, or an empty
+     *         iterator if the target was not reached
+     */
+    private Iterator<Room> expandPath(TraversalWorkspace ws, int start, int target) {
+        if (!ws.isReached(target)) {
+            return new ArrayUnorderedList<Room>(0).iterator();
+        }
+        int nodes = 0;
+        for (int curr = target; curr != -1; curr = ws.parentOf(curr)) {
+            nodes++;
+        }
+        int[] path = new int[nodes];
+        for (int curr = target; curr != -1; curr = ws.parentOf(curr)) {
+            path[--nodes] = curr;
+        }
+
+        ArrayUnorderedList<Room> rooms = new ArrayUnorderedList<>((int) ws.distanceOf(target) + 1);
+        rooms.add(grid.getVertex(start));
+        for (int k = 1; k < path.length; k++) {
+            int cost = (int) (ws.distanceOf(path[k]) - ws.distanceOf(path[k - 1]));
+            walkHop(path[k - 1], path[k], cost, target, rooms);
+        }
+        return rooms.iterator();
+    }
+
+    /**
+     * Adds the rooms of one edge of the contracted graph, without its first room.
+     *
+     * @param from the node the edge starts at
+     * @param to the node the edge ends at
+     * @param cost the length of the edge
+     * @param target the target room of the search
+     * @param rooms the list receiving the rooms
+     */
+    private void walkHop(int from, int to, int cost, int target, ArrayUnorderedList<Room> rooms) {
+        int c = chainOf[from];
+        if (c != JUNCTION) {
+            // From the corridor start: along its chain to the target or an end
+            int[] cells = chainCells[c];
+            int i = chainPos[from];
+            if (to == target && chainOf[to] == c && Math.abs(i - chainPos[to]) == cost) {
+                addCells(cells, i, chainPos[to], rooms);
+            } else if (to == chainA[c] && i + 1 == cost) {
+                addCells(cells, i, -1, rooms);
+                rooms.add(grid.getVertex(to));
+            } else {
+                addCells(cells, i, cells.length, rooms);
+                rooms.add(grid.getVertex(to));
+            }
+            return;
+        }
+
+        for (int n = grid.nextNeighbour(from, -1); n != -1; n = grid.nextNeighbour(from, n)) {
+            if (grid.isLocked(from, n)) {
+                continue;
+            }
+            int chain = chainOf[n];
+            if (chain == JUNCTION) {
+                if (n == to && cost == 1) {
+                    rooms.add(grid.getVertex(to));
+                    return;
+                }
+                continue;
+            }
+            int[] cells = chainCells[chain];
+            int m = cells.length;
+            boolean fromA = entersFromA(from, n, chain);
+            if (to == target && chainOf[to] == chain) {
+                int j = chainPos[to];
+                if (fromA && j + 1 == cost) {
+                    addCells(cells, -1, j, rooms);
+                    return;
+                }
+                if (!fromA && m - j == cost) {
+                    addCells(cells, m, j, rooms);
+                    return;
+                }
+            } else if (cost == m + 1 && to == (fromA ? chainB[chain] : chainA[chain])) {
+                addCells(cells, fromA ? -1 : m, fromA ? m : -1, rooms);
+                rooms.add(grid.getVertex(to));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the rooms of a chain strictly after one position up to and including
+     * another, walking in either direction. Positions -1 and the chain length
+     * stand for the two end junctions, which are not added.
+     *
+     * @param cells the rooms of the chain
+     * @param from the position to start after
+     * @param to the position to stop at
+     * @param rooms the list receiving the rooms
+     */
+    private void addCells(int[] cells, int from, int to, ArrayUnorderedList<Room> rooms) {
+        int step = (to > from) ? 1 : -1;
+        for (int i = from + step; i != to + step; i += step) {
+            if (i >= 0 && i < cells.length) {
+                rooms.add(grid.getVertex(cells[i]));
+            }
+        }
+    }
+
+    /**
+     * Returns true if stepping from a junction into a corridor room enters its
+     * chain at end A.
+     *
+     * @param junction the junction
+     * @param cell the corridor room next to it
+     * @param chain the chain of the corridor room
+     * @return true if the junction is end A of the chain on this side
+     */
+    private boolean entersFromA(int junction, int cell, int chain) {
+        if (chainLength[chain] == 1) {
+            return junction == chainA[chain];
+        }
+        return chainPos[cell] == 0;
+    }
+
+    /**
+     * Returns the Manhattan distance between two rooms, a lower bound on the
+     * length of every contracted edge between them.
+     *
+     * @param cell1 the first room
+     * @param cell2 the second room
+     * @return the Manhattan distance between the rooms
+     */
+    private int heuristic(int cell1, int cell2) {
+        return Math.abs(cell1 % width - cell2 % width) + Math.abs(cell1 / width - cell2 / width);
+    }
+
+    // ----------------------------------------------------------------
+    // Chain Maintenance
+    // ----------------------------------------------------------------
+    /**
+     * Traces again the chains around every room queued by edgeChanged.
+     */
+    private void update() {
+        if (pendingCount == 0) {
+            return;
+        }
+        affectedCount = 0;
+        for (int k = 0; k < pendingCount; k++) {
+            int cell = pending[k];
+            if (chainOf[cell] >= 0) {
+                dissolve(chainOf[cell]);
+            }
+            // The room may stop being a junction, merging the chains on its sides
+            for (int n = grid.nextNeighbour(cell, -1); n != -1; n = grid.nextNeighbour(cell, n)) {
+                if (chainOf[n] >= 0) {
+                    dissolve(chainOf[n]);
+                }
+            }
+            chainOf[cell] = UNASSIGNED;
+            affected = push(affected, affectedCount++, cell);
+        }
+        pendingCount = 0;
+
+        for (int k = 0; k < affectedCount; k++) {
+            if (chainOf[affected[k]] == UNASSIGNED) {
+                classify(affected[k]);
+            }
+        }
+        for (int k = 0; k < affectedCount; k++) {
+            if (chainOf[affected[k]] == UNASSIGNED) {
+                traceChain(affected[k]);
+            }
+        }
+    }
+
+    /**
+     * Removes a chain, leaving its rooms unassigned and queued for tracing.
+     *
+     * @param chain the chain to remove
+     */
+    private void dissolve(int chain) {
+        for (int cell : chainCells[chain]) {
+            chainOf[cell] = UNASSIGNED;
+            affected = push(affected, affectedCount++, cell);
+        }
+        chainCells[chain] = null;
+        chainLength[chain] = 0;
+        freeChains = push(freeChains, freeCount++, chain);
+    }
+
+    /**
+     * Marks a room as a junction unless it has exactly two unlocked passages,
+     * in which case it stays unassigned until its chain is traced.
+     *
+     * @param cell the room to classify
+     */
+    private void classify(int cell) {
+        if (!grid.indexIsValid(cell) || degree(cell) != 2) {
+            chainOf[cell] = JUNCTION;
+        }
+    }
+
+    /**
+     * Traces the chain through an unassigned corridor room: walks to the
+     * junction at one end, then collects the rooms up to the junction at the
+     * other. If the walk comes back to the room, the chain is a closed loop and
+     * the room becomes its junction.
+     *
+     * @param cell an unassigned corridor room
+     */
+    private void traceChain(int cell) {
+        int previous = cell;
+        int current = otherNeighbour(cell, -1);
+        while (chainOf[current] != JUNCTION && current != cell) {
+            int next = otherNeighbour(current, previous);
+            previous = current;
+            current = next;
+        }
+        if (current == cell) {
+            chainOf[cell] = JUNCTION;
+            current = cell;
+            previous = otherNeighbour(cell, -1);
+        }
+
+        // Walk back from the junction found, collecting the chain in order
+        int a = current;
+        int length = 0;
+        int prev = a;
+        int curr = previous;
+        while (chainOf[curr] != JUNCTION) {
+            trace = push(trace, length++, curr);
+            int next = otherNeighbour(curr, prev);
+            prev = curr;
+            curr = next;
+        }
+
+        int chain = (freeCount > 0) ? freeChains[--freeCount] : newChain();
+        chainCells[chain] = Arrays.copyOf(trace, length);
+        chainLength[chain] = length;
+        chainA[chain] = a;
+        chainB[chain] = curr;
+        for (int i = 0; i < length; i++) {
+            chainOf[trace[i]] = chain;
+            chainPos[trace[i]] = i;
+        }
+    }
+
+    /**
+     * Returns a new chain id, growing the chain arrays if needed.
+     *
+     * @return the id of the new chain
+     */
+    private int newChain() {
+        if (chainBound == chainCells.length) {
+            int capacity = chainBound * 2;
+            chainCells = Arrays.copyOf(chainCells, capacity);
+            chainLength = Arrays.copyOf(chainLength, capacity);
+            chainA = Arrays.copyOf(chainA, capacity);
+            chainB = Arrays.copyOf(chainB, capacity);
+        }
+        return chainBound++;
+    }
+
+    /**
+     * Returns the number of unlocked passages of a room.
+     *
+     * @param cell the room
+     * @return the number of unlocked passages
+     */
+    private int degree(int cell) {
+        int count = 0;
+        for (int n = grid.nextNeighbour(cell, -1); n != -1; n = grid.nextNeighbour(cell, n)) {
+            if (!grid.isLocked(cell, n)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the unlocked neighbour of a corridor room other than the given one.
+     *
+     * @param cell the corridor room
+     * @param previous the neighbour to skip, or -1 to take the first
+     * @return the other unlocked neighbour
+     */
+    private int otherNeighbour(int cell, int previous) {
+        for (int n = grid.nextNeighbour(cell, -1); n != -1; n = grid.nextNeighbour(cell, n)) {
+            if (n != previous && !grid.isLocked(cell, n)) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores a value at a position of an int array, doubling the array if it is full.
+     *
+     * @param array the array
+     * @param position the position to write
+     * @param value the value to write
+     * @return the array, or its larger copy
+     */
+    private static int[] push(int[] array, int position, int value) {
+        if (position == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[position] = value;
+        return array;
+    }
+}
@@ -0,0 +1,80 @@
+package DataStructures.Graph;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Iterator;
+import DataStructures.PriorityQueue.IndexedMinPriorityQueue;
+import Models.Room;
+
+/**
+ * DijkstraPathfinder finds shortest paths with Dijkstra's algorithm over an
+ * indexed binary heap, so each query costs O(E log V) plus the neighbour scans
+ * of the graph representation. It makes no assumption about room positions and
+ * therefore expands every room closer to the start than the target.
+ */
+public class DijkstraPathfinder implements PathfindingStrategy {
+
+    /**
+     * Returns the shortest path between two rooms using Dijkstra's algorithm,
+     * skipping locked connections.
+     *
+     * @param graph the graph to search
+     * @param startIndex the index of the starting room
+     * @param targetIndex the index of the destination room
+     * @return an iterator over the rooms of the path from start to target,
+     * or an empty iterator if no path exists
+     */
+    @Override
+    public Iterator<Room> shortestPath(IndexedGraph<Room> graph, int startIndex, int targetIndex) {
+        TraversalWorkspace ws = graph.acquireWorkspace();
+        IndexedMinPriorityQueue queue = ws.heap();
+        int expanded = 0;
+
+        try {
+            // Every room starts unreached; only the start has a distance, zero
+            ws.reach(startIndex, -1, 0);
+            queue.insert(startIndex, 0);
+
+            // Main Dijkstra loop: settle the queued vertex with minimum distance
+            while (!queue.isEmpty()) {
+                int u;
+                try {
+                    u = queue.deleteMin();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+
+                // Target settled: its distance is final
+                if (u == targetIndex) {
+                    break;
+                }
+
+                ws.visit(u);
+                expanded++;
+
+                // Relax edges to all unvisited neighbors of current vertex
+                for (int v = graph.nextNeighbour(u, -1); v != -1; v = graph.nextNeighbour(u, v)) {
+                    // Skip locked connections: they cannot be traversed
+                    if (ws.isVisited(v) || graph.isLocked(u, v)) {
+                        continue;
+                    }
+
+                    // Update distance if path through u to v is shorter
+                    double alt = ws.distanceOf(u) + 1; // Weight 1 for now
+                    if (alt < ws.distanceOf(v)) {
+                        if (queue.contains(v)) {
+                            queue.decreaseKey(v, alt);
+                        } else {
+                            queue.insert(v, alt);
+                        }
+                        ws.reach(v, u, alt);
+                    }
+                }
+            }
+
+            graph.recordSearch(expanded);
+            return graph.buildPath(ws, targetIndex);
+        } finally {
+            graph.releaseWorkspace(ws);
+        }
+    }
+}
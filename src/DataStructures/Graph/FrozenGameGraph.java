@@ -0,0 +1,738 @@
+package DataStructures.Graph;
+
+import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Iterator;
+import DataStructures.Queue.IntArrayQueue;
+import DataStructures.Stack.IntArrayStack;
+import Models.Connection;
+import Models.Room;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * FrozenGameGraph is a read-only snapshot of a GameGraph in compressed sparse
+ * row (CSR) form, produced by GameGraph.freeze(). The neighbours of room i are
+ * stored in increasing index order in neighbours[offsets[i]] up to
+ * neighbours[offsets[i + 1] - 1], with the matching Connection and lock bit at
+ * the same position (the slot) of the connections array and the lock bitset.
+ * A room's neighbour scan is therefore one sequential run through a flat int
+ * array instead of a matrix row or a chain of mask lookups, and memory is
+ * O(V + E).
+ *
+ * Rooms keep the indices they have in the source graph and are found through
+ * the snapshot's own hash index, so no query reads the source graph. The
+ * snapshot offers the read-only queries of GameGraph and answers shortest path
+ * queries with the source graph's pathfinding strategy, counting them in the
+ * source graph's search counters. The source graph writes lock toggles into
+ * the lock bitset in place; adding or removing rooms or passages leaves the
+ * snapshot as it was, and the next freeze() on the source builds a new one. Since the structure never changes after
+ * construction and the lock bits are atomic, a snapshot can be read from
+ * several threads at once, each seeing a lock either before or after a toggle.
+ */
+public class FrozenGameGraph extends IndexedGraph<Room> {
+
+    private final GameGraph source;
+    private final Room[] rooms;
+    private final int roomCount;
+    private final int[] offsets;
+    private final int[] neighbours;
+    private final Connection[] connections;
+    private final AtomicLongArray locks;
+
+    /**
+     * Open-addressing hash table mapping rooms to their index. Each slot holds
+     * the room index plus one, so zero marks an empty slot.
+     */
+    private final int[] indexTable;
+    private final int indexShift;
+
+    private volatile PathfindingStrategy pathfinder;
+
+    /**
+     * Copies the rooms, passages and lock states of a graph into CSR arrays.
+     *
+     * @param source the graph to take the snapshot of
+     */
+    FrozenGameGraph(GameGraph source) {
+        int bound = source.indexBound();
+        this.source = source;
+        this.rooms = new Room[bound];
+        this.offsets = new int[bound + 1];
+        this.pathfinder = source.getPathfindingStrategy();
+
+        // First pass: rooms and row lengths
+        int count = 0;
+        int slotCount = 0;
+        for (int i = 0; i < bound; i++) {
+            offsets[i] = slotCount;
+            if (!source.indexIsValid(i)) {
+                continue;
+            }
+            rooms[i] = source.getVertex(i);
+            count++;
+            for (int j = source.nextNeighbour(i, -1); j != -1; j = source.nextNeighbour(i, j)) {
+                slotCount++;
+            }
+        }
+        offsets[bound] = slotCount;
+        this.roomCount = count;
+
+        // Second pass: neighbours, connections and lock bits, row by row
+        this.neighbours = new int[slotCount];
+        this.connections = new Connection[slotCount];
+        long[] lockBits = new long[(slotCount + 63) >>> 6];
+        for (int i = 0; i < bound; i++) {
+            int slot = offsets[i];
+            if (rooms[i] == null) {
+                continue;
+            }
+            for (int j = source.nextNeighbour(i, -1); j != -1; j = source.nextNeighbour(i, j)) {
+                neighbours[slot] = j;
+                connections[slot] = source.getConnection(i, j);
+                if (source.isLocked(i, j)) {
+                    lockBits[slot >>> 6] |= 1L << slot;
+                }
+                slot++;
+            }
+        }
+        this.locks = new AtomicLongArray(lockBits);
+
+        // Third pass: the room index, kept at most half full
+        int tableSize = 2;
+        while (tableSize < count * 2) {
+            tableSize <<= 1;
+        }
+        this.indexTable = new int[tableSize];
+        this.indexShift = 32 - Integer.numberOfTrailingZeros(tableSize);
+        int mask = tableSize - 1;
+        for (int i = 0; i < bound; i++) {
+            if (rooms[i] != null) {
+                int slot = home(rooms[i].hashCode());
+                while (indexTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                indexTable[slot] = i + 1;
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+    // CSR Access
+    // ----------------------------------------------------------------
+    /**
+     * Returns the first slot of a room's row. Together with rowEnd, this lets
+     * hot loops scan the neighbours of a room directly:
+     * {@code for (s = rowStart(u); s < rowEnd(u); s++) v = neighbourAt(s);}
+     *
+     * @param index the index of the room
+     * @return the first slot of the row
+     */
+    public int rowStart(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns the slot after the last one of a room's row.
+     *
+     * @param index the index of the room
+     * @return the end (exclusive) of the row
+     */
+    public int rowEnd(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Returns the neighbour stored in a slot.
+     *
+     * @param slot the slot
+     * @return the index of the neighbouring room
+     */
+    public int neighbourAt(int slot) {
+        return neighbours[slot];
+    }
+
+    /**
+     * Returns true if the passage stored in a slot is locked.
+     *
+     * @param slot the slot
+     * @return true if the passage is locked
+     */
+    public boolean isLockedAt(int slot) {
+        return (locks.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    /**
+     * Returns the Connection of the passage stored in a slot.
+     *
+     * @param slot the slot
+     * @return the connection, shared with the source graph
+     */
+    public Connection connectionAt(int slot) {
+        return connections[slot];
+    }
+
+    /**
+     * Returns the number of passages in this snapshot.
+     *
+     * @return the number of passages
+     */
+    public int getPassageCount() {
+        return neighbours.length / 2;
+    }
+
+    /**
+     * Writes a lock toggle of the source graph into the lock bitset, for both
+     * directions of the passage.
+     *
+     * @param room1 one room of the passage
+     * @param room2 the other room of the passage
+     * @param locked the new lock state
+     */
+    void applyLock(Room room1, Room room2, boolean locked) {
+        int index1 = getIndex(room1);
+        int index2 = getIndex(room2);
+        if (index1 == -1 || index2 == -1) {
+            return;
+        }
+        int slot1 = slotOf(index1, index2);
+        int slot2 = slotOf(index2, index1);
+        if (slot1 == -1 || slot2 == -1) {
+            return;
+        }
+        setLockBit(slot1, locked);
+        setLockBit(slot2, locked);
+    }
+
+    /**
+     * Selects the algorithm used by iteratorShortestPath. The source graph
+     * passes its own strategy on whenever it changes.
+     *
+     * @param pathfinder the pathfinding strategy to use
+     */
+    void setPathfindingStrategy(PathfindingStrategy pathfinder) {
+        this.pathfinder = pathfinder;
+    }
+
+    /**
+     * Returns the algorithm currently used by iteratorShortestPath.
+     *
+     * @return the current pathfinding strategy
+     */
+    public PathfindingStrategy getPathfindingStrategy() {
+        return pathfinder;
+    }
+
+    // ----------------------------------------------------------------
+    // Queries
+    // ----------------------------------------------------------------
+    /**
+     * Returns the number of rooms in this snapshot.
+     *
+     * @return the number of rooms
+     */
+    public int size() {
+        return roomCount;
+    }
+
+    /**
+     * Returns true if this snapshot holds no rooms.
+     *
+     * @return true if the snapshot is empty
+     */
+    public boolean isEmpty() {
+        return roomCount == 0;
+    }
+
+    /**
+     * Returns the Connection of the passage between two rooms.
+     *
+     * @param room1 one room
+     * @param room2 the other room
+     * @return the Connection between the rooms, or null if no passage exists
+     */
+    public Connection getConnection(Room room1, Room room2) {
+        return getConnection(getIndex(room1), getIndex(room2));
+    }
+
+    /**
+     * Returns the Connection of the passage between the rooms stored at two indices.
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return the Connection between the rooms, or null if no passage exists
+     */
+    public Connection getConnection(int index1, int index2) {
+        if (!indexIsValid(index1) || !indexIsValid(index2)) {
+            return null;
+        }
+        int slot = slotOf(index1, index2);
+        return (slot == -1) ? null : connections[slot];
+    }
+
+    /**
+     * Returns the Connections of every passage of a room, read from its row.
+     *
+     * @param index the index of the room
+     * @return an ArrayUnorderedList containing the Connections of this room
+     */
+    public ArrayUnorderedList<Connection> getConnections(int index) {
+        ArrayUnorderedList<Connection> list = new ArrayUnorderedList<>(GameGraph.MAX_ROOM_CONNECTIONS);
+        if (indexIsValid(index)) {
+            for (int s = offsets[index]; s < offsets[index + 1]; s++) {
+                if (connections[s] != null) {
+                    list.add(connections[s]);
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Copies the Connections of a room's row into a buffer, in index order.
+     *
+     * @param room the room
+     * @param buffer the array to fill with the connections
+     * @return the number of connections stored in the buffer, at most buffer.length
+     */
+    public int getConnections(Room room, Connection[] buffer) {
+        return getConnections(getIndex(room), buffer);
+    }
+
+    /**
+     * Copies the Connections of a room's row into a buffer, in index order.
+     *
+     * @param index the index of the room
+     * @param buffer the array to fill with the connections
+     * @return the number of connections stored in the buffer, at most buffer.length
+     */
+    public int getConnections(int index, Connection[] buffer) {
+        int count = 0;
+        if (indexIsValid(index)) {
+            for (int s = offsets[index]; s < offsets[index + 1]; s++) {
+                if (connections[s] != null && count < buffer.length) {
+                    buffer[count++] = connections[s];
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the shortest path between two rooms using the pathfinding
+     * strategy of the source graph, skipping locked passages.
+     *
+     * @param start the starting room
+     * @param target the destination room
+     * @return an iterator containing rooms along the shortest path from start to target
+     */
+    public Iterator<Room> iteratorShortestPath(Room start, Room target) {
+        return iteratorShortestPath(getIndex(start), getIndex(target));
+    }
+
+    /**
+     * Returns the shortest path between the rooms stored at two indices using
+     * the pathfinding strategy of the source graph, skipping locked passages.
+     *
+     * @param startIndex the index of the starting room
+     * @param targetIndex the index of the destination room
+     * @return an iterator containing rooms along the shortest path from start to target
+     */
+    public Iterator<Room> iteratorShortestPath(int startIndex, int targetIndex) {
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            return new ArrayUnorderedList<Room>().iterator();
+        }
+        return pathfinder.shortestPath(this, startIndex, targetIndex);
+    }
+
+    /**
+     * Returns the room closest to the given room, by number of unlocked passages,
+     * that satisfies a predicate. The search stops as soon as a match is found.
+     *
+     * @param source the room to search from
+     * @param predicate the condition the wanted room must satisfy
+     * @return the nearest matching room, or null if no reachable room matches
+     */
+    public Room findNearest(Room source, Predicate<Room> predicate) {
+        return findNearest(source, predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the room closest to the given room that satisfies a predicate,
+     * ignoring rooms further than maxDistance passages away. Rows are scanned
+     * breadth first, skipping locked slots.
+     *
+     * @param source the room to search from
+     * @param predicate the condition the wanted room must satisfy
+     * @param maxDistance the largest number of passages allowed between the source
+     * and the match
+     * @return the nearest matching room, or null if none lies within maxDistance
+     */
+    public Room findNearest(Room source, Predicate<Room> predicate, int maxDistance) {
+        int start = getIndex(source);
+        if (start == -1) {
+            return null;
+        }
+
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayQueue queue = ws.queue();
+        try {
+            ws.reach(start, -1, 0);
+            queue.enqueueInt(start);
+
+            while (!queue.isEmpty()) {
+                int u;
+                try {
+                    u = queue.dequeueInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                // Rooms leave the queue in distance order, so the first match is the nearest
+                if (predicate.test(rooms[u])) {
+                    return rooms[u];
+                }
+                double level = ws.distanceOf(u);
+                if (level >= maxDistance) {
+                    continue;
+                }
+
+                for (int s = offsets[u]; s < offsets[u + 1]; s++) {
+                    int v = neighbours[s];
+                    if (!ws.isReached(v) && !isLockedAt(s)) {
+                        ws.reach(v, u, level + 1);
+                        queue.enqueueInt(v);
+                    }
+                }
+            }
+        } finally {
+            releaseWorkspace(ws);
+        }
+        return null;
+    }
+
+    /**
+     * Returns a breadth first traversal of the rooms reachable from the given
+     * room through any passage, locked or not.
+     *
+     * @param start the room to begin the search from
+     * @return an iterator that performs a breadth first traversal
+     */
+    public Iterator<Room> iteratorBFS(Room start) {
+        return iteratorBFS(getIndex(start));
+    }
+
+    /**
+     * Returns a breadth first traversal of the rooms reachable from the given
+     * room through any passage, locked or not.
+     *
+     * @param startIndex the index to begin the search from
+     * @return an iterator that performs a breadth first traversal
+     */
+    public Iterator<Room> iteratorBFS(int startIndex) {
+        ArrayUnorderedList<Room> resultList = new ArrayUnorderedList<>();
+
+        if (!indexIsValid(startIndex)) {
+            return resultList.iterator();
+        }
+
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayQueue traversalQueue = ws.queue();
+        try {
+            traversalQueue.enqueueInt(startIndex);
+            ws.visit(startIndex);
+
+            while (!traversalQueue.isEmpty()) {
+                int x;
+                try {
+                    x = traversalQueue.dequeueInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                resultList.add(rooms[x]);
+
+                for (int s = offsets[x]; s < offsets[x + 1]; s++) {
+                    int next = neighbours[s];
+                    if (!ws.isVisited(next)) {
+                        traversalQueue.enqueueInt(next);
+                        ws.visit(next);
+                    }
+                }
+            }
+        } finally {
+            releaseWorkspace(ws);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns a depth first traversal of the rooms reachable from the given
+     * room through any passage, locked or not.
+     *
+     * @param start the room to begin the search traversal from
+     * @return an iterator that performs a depth first traversal
+     */
+    public Iterator<Room> iteratorDFS(Room start) {
+        return iteratorDFS(getIndex(start));
+    }
+
+    /**
+     * Returns a depth first traversal of the rooms reachable from the given
+     * room through any passage, locked or not.
+     *
+     * @param startIndex the index to begin the search traversal from
+     * @return an iterator that performs a depth first traversal
+     */
+    public Iterator<Room> iteratorDFS(int startIndex) {
+        ArrayUnorderedList<Room> resultList = new ArrayUnorderedList<>();
+
+        if (!indexIsValid(startIndex)) {
+            return resultList.iterator();
+        }
+
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayStack traversalStack = ws.stack();
+        try {
+            traversalStack.pushInt(startIndex);
+            resultList.add(rooms[startIndex]);
+            ws.visit(startIndex);
+
+            while (!traversalStack.isEmpty()) {
+                int x;
+                try {
+                    x = traversalStack.peekInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                boolean found = false;
+
+                for (int s = offsets[x]; s < offsets[x + 1] && !found; s++) {
+                    int next = neighbours[s];
+                    if (!ws.isVisited(next)) {
+                        traversalStack.pushInt(next);
+                        resultList.add(rooms[next]);
+                        ws.visit(next);
+                        found = true;
+                    }
+                }
+                if (!found) {
+                    try {
+                        traversalStack.popInt();
+                    } catch (EmptyCollectionException e) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            releaseWorkspace(ws);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns all rooms of this snapshot in index order.
+     *
+     * @return an ArrayUnorderedList containing all rooms in this graph
+     */
+    public ArrayUnorderedList<Room> getVertices() {
+        ArrayUnorderedList<Room> list = new ArrayUnorderedList<>(Math.max(1, roomCount));
+        for (Room room : rooms) {
+            if (room != null) {
+                list.add(room);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns a string representation of the rows, one room per line, with
+     * locked passages marked by an asterisk.
+     *
+     * @return a string representation of this snapshot
+     */
+    @Override
+    public String toString() {
+        if (roomCount == 0) {
+            return "Graph is empty";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("CSR Rows\n");
+        sb.append("----------------\n");
+        for (int i = 0; i < rooms.length; i++) {
+            if (rooms[i] == null) {
+                continue;
+            }
+            sb.append(i).append(":");
+            for (int s = offsets[i]; s < offsets[i + 1]; s++) {
+                sb.append(" ").append(neighbours[s]);
+                if (isLockedAt(s)) {
+                    sb.append("*");
+                }
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    // ----------------------------------------------------------------
+    // Search Hooks
+    // ----------------------------------------------------------------
+    /**
+     * Returns the index the room has in this snapshot, looked up in the
+     * snapshot's own hash index in expected constant time.
+     *
+     * @param vertex the room to look up
+     * @return the index of the room, or -1 if it is not in this snapshot
+     */
+    @Override
+    public int getIndex(Room vertex) {
+        if (vertex == null) {
+            return -1;
+        }
+        int mask = indexTable.length - 1;
+        int slot = home(vertex.hashCode());
+
+        // Probe linearly until the room or an empty slot is found
+        while (indexTable[slot] != 0) {
+            int index = indexTable[slot] - 1;
+            if (rooms[index].equals(vertex)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the room stored at the given index.
+     *
+     * @param index the index of the room
+     * @return the room, or null if the index holds no room
+     */
+    @Override
+    public Room getVertex(int index) {
+        if (!indexIsValid(index)) {
+            return null;
+        }
+        return rooms[index];
+    }
+
+    /**
+     * Returns the next neighbour of a room, in increasing index order, from its row.
+     *
+     * @param index the room whose neighbours are enumerated
+     * @param previous the neighbour returned by the previous call, or -1 to start
+     * @return the index of the next neighbour, or -1 if there are no more
+     */
+    @Override
+    protected int nextNeighbour(int index, int previous) {
+        for (int s = offsets[index]; s < offsets[index + 1]; s++) {
+            if (neighbours[s] > previous) {
+                return neighbours[s];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the passage between two adjacent rooms is locked, reading
+     * the lock bitset.
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return true if the passage exists and is locked, false otherwise
+     */
+    @Override
+    protected boolean isLocked(int index1, int index2) {
+        int slot = slotOf(index1, index2);
+        return slot != -1 && isLockedAt(slot);
+    }
+
+    /**
+     * Records a path query in the search counters of the source graph, so
+     * queries answered by the snapshot are counted with those of the graph.
+     *
+     * @param expanded the number of rooms expanded by the query
+     */
+    @Override
+    void recordSearch(int expanded) {
+        source.recordSearch(expanded);
+    }
+
+    /**
+     * Rooms keep the indices of the source graph, removed rooms included.
+     *
+     * @return the index bound of the source graph when the snapshot was taken
+     */
+    @Override
+    protected int indexBound() {
+        return rooms.length;
+    }
+
+    /**
+     * Returns true if the index holds a room of this snapshot.
+     *
+     * @param index the index to validate
+     * @return true if a room is stored at that index, false otherwise
+     */
+    @Override
+    protected boolean indexIsValid(int index) {
+        return index >= 0 && index < rooms.length && rooms[index] != null;
+    }
+
+    // ----------------------------------------------------------------
+    // Row Helpers
+    // ----------------------------------------------------------------
+    /**
+     * Returns the slot of one room's row that holds the other room, searching
+     * the sorted row by bisection.
+     *
+     * @param index1 the room whose row is searched
+     * @param index2 the neighbour to find
+     * @return the slot, or -1 if the rooms are not adjacent
+     */
+    private int slotOf(int index1, int index2) {
+        if (index1 < 0 || index1 >= rooms.length) {
+            return -1;
+        }
+        int low = offsets[index1];
+        int high = offsets[index1 + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (neighbours[mid] < index2) {
+                low = mid + 1;
+            } else if (neighbours[mid] > index2) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets or clears the lock bit of a slot atomically, so readers on other
+     * threads see the toggle and concurrent toggles in the same word are not lost.
+     *
+     * @param slot the slot
+     * @param locked true to mark the passage as locked
+     */
+    private void setLockBit(int slot, boolean locked) {
+        if (locked) {
+            locks.getAndAccumulate(slot >>> 6, 1L << slot, (bits, bit) -> bits | bit);
+        } else {
+            locks.getAndAccumulate(slot >>> 6, ~(1L << slot), (bits, mask) -> bits & mask);
+        }
+    }
+
+    /**
+     * Returns the home slot of a hash code in the room index, by Fibonacci
+     * hashing as in the vertex index of Graph.
+     *
+     * @param hash the hash code of a room
+     * @return the home slot
+     */
+    private int home(int hash) {
+        return (hash * 0x9E3779B9) >>> indexShift;
+    }
+}
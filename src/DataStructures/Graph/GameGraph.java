@@ -2,28 +2,70 @@ package DataStructures.Graph;
 
 import DataStructures.Iterator;
 import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.DisjointSet.DisjointSet;
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Queue.IntArrayQueue;
 import Models.Connection;
 import Models.Room;
+import java.util.Arrays;
+import java.util.function.Predicate;
 
 /**
  * GameGraph extends Graph to represent a game map structure where vertices are
  * Room objects and edges are Connection objects. Maintains a dual representation:
- * an undirected adjacency matrix for connectivity and a directed connection matrix
- * storing Connection objects with locking and key information. Supports weighted
- * shortest path calculations using Dijkstra's algorithm with locked connection skipping.
+ * an undirected adjacency matrix for connectivity and a connection matrix
+ * storing Connection objects with locking and key information. Each passage has
+ * a single Connection, stored under both of its rooms, so its lock is shared by
+ * both directions. Supports weighted shortest path calculations through a
+ * selectable PathfindingStrategy (Dijkstra's algorithm by default, or A*) with
+ * locked connection skipping.
  */
 public class GameGraph extends Graph<Room> {
+
+    /**
+     * Rooms of a maze have at most one passage per direction, so a buffer of
+     * this size holds every connection of a room on a grid map.
+     */
+    public static final int MAX_ROOM_CONNECTIONS = 4;
     
     private Connection[][] connectionMatrix;
+    private PathfindingStrategy pathfinder;
+    private int lastNodesExpanded;
+    private long totalNodesExpanded;
+    private long pathQueries;
+    private long topologyVersion;
+    private long structureVersion;
+    private ArrayUnorderedList<TopologyListener> listeners;
+    private DisjointSet components;
+    private long componentsVersion = -1;
+    private ChokepointAnalysis chokepoints;
+    private long chokepointsVersion = -1;
+    private volatile FrozenGameGraph snapshot;
 
     /**
      * Creates a new empty GameGraph with default capacity.
      * Initializes both the adjacency matrix (inherited) and connection matrix
-     * to store Connection objects between rooms.
+     * to store Connection objects between rooms. Shortest paths use Dijkstra's
+     * algorithm until another strategy is selected.
      */
     public GameGraph() {
-        super();
-        this.connectionMatrix = new Connection[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty GameGraph with room for the given number of rooms.
+     * Both matrices are allocated once at that size, so adding up to that many
+     * rooms never copies them. GameGraphBuilder uses this to build a graph whose
+     * final size is known.
+     *
+     * @param initialCapacity the number of rooms the graph can hold before it grows
+     */
+    public GameGraph(int initialCapacity) {
+        super(initialCapacity);
+        this.connectionMatrix = new Connection[vertices.length][vertices.length];
+        this.pathfinder = new DijkstraPathfinder();
+        this.listeners = new ArrayUnorderedList<>();
     }
 
     /**
@@ -38,8 +80,8 @@ public class GameGraph extends Graph<Room> {
         // Create a new connection matrix with expanded capacity
         Connection[][] largerConnectionMatrix = new Connection[vertices.length][vertices.length];
         // Copy all existing connections to the larger matrix
-        for (int i = 0; i < numVertices; i++) {
-            for (int j = 0; j < numVertices; j++) {
+        for (int i = 0; i < indexBound(); i++) {
+            for (int j = 0; j < indexBound(); j++) {
                 largerConnectionMatrix[i][j] = connectionMatrix[i][j];
             }
         }
@@ -47,65 +89,341 @@ public class GameGraph extends Graph<Room> {
     }
 
     /**
-     * Adds a directed edge between two rooms with an associated Connection object.
-     * Creates both the undirected adjacency entry (inherited behavior) and stores
-     * the Connection objects in the connection matrix. Automatically creates a
-     * reverse Connection for bidirectional traversal while maintaining directional
-     * semantics in the Connection object itself (from→to relationship).
+     * Renumbers the connection matrix together with the adjacency matrix after
+     * compact() moved the rooms, in the same way: columns first, then rows.
+     *
+     * @param newIndex the new index of each old index, or -1 for former tombstones
+     * @param oldBound the slot count before compacting
+     * @param newBound the slot count after compacting
+     */
+    @Override
+    protected void compactEdges(int[] newIndex, int oldBound, int newBound) {
+        super.compactEdges(newIndex, oldBound, newBound);
+        for (int i = 0; i < oldBound; i++) {
+            if (newIndex[i] == -1) {
+                continue;
+            }
+            Connection[] row = connectionMatrix[i];
+            for (int j = 0; j < oldBound; j++) {
+                if (newIndex[j] != -1) {
+                    row[newIndex[j]] = row[j];
+                }
+            }
+            connectionMatrix[i] = connectionMatrix[newIndex[i]];
+            connectionMatrix[newIndex[i]] = row;
+        }
+
+        for (int i = 0; i < oldBound; i++) {
+            Arrays.fill(connectionMatrix[i], (i < newBound) ? newBound : 0, oldBound, null);
+        }
+    }
+
+    /**
+     * Compacts the room slots and bumps the topology version, since every
+     * result keyed by room index may now refer to a different room.
      *
-     * @param vertex1 the first room (source)
-     * @param vertex2 the second room (destination)
-     * @param connection the Connection object describing the link from vertex1 to vertex2
+     * @return a table mapping each old index to its new index,
+     * or -1 for former tombstones
+     */
+    @Override
+    public int[] compact() {
+        int[] newIndex = super.compact();
+        structureChanged();
+        topologyChanged();
+        return newIndex;
+    }
+
+    /**
+     * Adds a passage between two rooms described by a Connection object.
+     * Creates the undirected adjacency entry (inherited behavior) and stores
+     * the Connection in the connection matrix for both directions. If the rooms
+     * already share a passage, its Connection is kept and only locked if the
+     * new one is locked, so adding the same passage from both sides is harmless.
+     *
+     * @param vertex1 the first room
+     * @param vertex2 the second room
+     * @param connection the Connection object describing the passage
      */
     public void addEdge(Room vertex1, Room vertex2, Connection connection) {
-        // Call parent to add undirected edge in adjacency matrix
-        super.addEdge(vertex1, vertex2);
-        int index1 = getIndex(vertex1);
-        int index2 = getIndex(vertex2);
+        addEdge(getIndex(vertex1), getIndex(vertex2), connection);
+    }
+
+    /**
+     * Adds a passage between the rooms stored at two indices described by a
+     * Connection object. Lets callers that already know the indices skip the
+     * vertex lookup. See addEdge(Room, Room, Connection).
+     *
+     * @param index1 the index of the first room
+     * @param index2 the index of the second room
+     * @param connection the Connection object describing the passage
+     */
+    public void addEdge(int index1, int index2, Connection connection) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            // Store the connection from vertex1 to vertex2
+            Connection existing = connectionMatrix[index1][index2];
+            if (existing != null) {
+                if (connection.isLocked() && !existing.isLocked()) {
+                    existing.setLocked(true);
+                }
+                return;
+            }
+
+            // Call parent to add undirected edge in adjacency matrix
+            super.addEdge(index1, index2);
+
+            // Both directions share the one Connection and therefore its lock
             connectionMatrix[index1][index2] = connection;
-            
-            // Create reverse connection automatically to ensure undirected behavior in the graph
-            // but directed behavior in the Connection object (from->to)
-            Connection reverseConnection = new Connection(vertex2, vertex1, connection.isLocked(), connection.getKey());
-            connectionMatrix[index2][index1] = reverseConnection; 
+            connectionMatrix[index2][index1] = connection;
+            connection.setGraph(this);
+            structureChanged();
+            passageChanged((Room) vertices[index1], (Room) vertices[index2], !connection.isLocked());
+        }
+    }
+
+    /**
+     * Stores a passage while a graph is being built in bulk. Unlike addEdge, no
+     * existing passage is checked for and neither the topology version nor the
+     * listeners are touched; the builder bumps the version once when it is done.
+     *
+     * @param index1 the index of the first room
+     * @param index2 the index of the second room
+     * @param connection the Connection object describing the passage
+     */
+    void loadPassage(int index1, int index2, Connection connection) {
+        super.addEdge(index1, index2);
+        connectionMatrix[index1][index2] = connection;
+        connectionMatrix[index2][index1] = connection;
+        connection.setGraph(this);
+        structureChanged();
+    }
+
+    /**
+     * Called by a Connection stored in this graph after its locked state changed.
+     * The matrix representation reads the lock directly from the Connection, so
+     * only the frozen snapshot, if any, is updated, the topology version is bumped
+     * and listeners are notified; subclasses that cache lock state also update
+     * their own storage.
+     *
+     * @param connection the connection whose locked state changed
+     */
+    public void lockChanged(Connection connection) {
+        snapshotLockChanged(connection);
+        passageChanged(connection.getFrom(), connection.getTo(), !connection.isLocked());
+    }
+
+    /**
+     * Adds a room to the graph and bumps the topology version.
+     *
+     * @param vertex the room to add to the graph
+     */
+    @Override
+    public void addVertex(Room vertex) {
+        super.addVertex(vertex);
+        structureChanged();
+        topologyChanged();
+    }
+
+    /**
+     * Removes a room from the graph and bumps the topology version. Each of its
+     * passages is removed through removeEdge, which clears both Connection
+     * objects and notifies the listeners; the other rooms keep their indices.
+     *
+     * @param vertex the room to be removed from this graph
+     */
+    @Override
+    public void removeVertex(Room vertex) {
+        super.removeVertex(vertex);
+        structureChanged();
+        topologyChanged();
+    }
+
+    /**
+     * Returns a counter that changes whenever rooms, passages or lock states of
+     * this graph change. Results derived from the graph, such as distance fields,
+     * stay valid for as long as the version they were computed at is current.
+     *
+     * @return the current topology version
+     */
+    public long getTopologyVersion() {
+        return topologyVersion;
+    }
+
+    /**
+     * Bumps the topology version after a structural or lock change.
+     */
+    protected void topologyChanged() {
+        topologyVersion++;
+    }
+
+    // ----------------------------------------------------------------
+    // Frozen Snapshot
+    // ----------------------------------------------------------------
+    /**
+     * Returns a read-only snapshot of this graph in compressed sparse row form,
+     * for phases that only read the map, such as pathfinding bursts, rendering
+     * and reports. The snapshot is built on the first call and reused until a
+     * room or passage is added or removed; lock toggles are written into it in
+     * place, so it always agrees with this graph on which passages are locked.
+     * Rooms have the same indices in the snapshot as in this graph.
+     *
+     * @return the current snapshot of this graph
+     */
+    public synchronized FrozenGameGraph freeze() {
+        FrozenGameGraph current = snapshot;
+        if (current == null) {
+            current = new FrozenGameGraph(this);
+            current.setPathfindingStrategy(pathfinder);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Bumps the structure version and drops the frozen snapshot after a room or
+     * passage was added or removed, so the next freeze() builds a new one.
+     * Snapshots already handed out keep the old structure.
+     */
+    protected void structureChanged() {
+        structureVersion++;
+        snapshot = null;
+    }
+
+    /**
+     * Returns true if a snapshot is the one freeze() currently returns for this
+     * graph, so it has the same rooms and passages as this graph.
+     *
+     * @param candidate the snapshot to check
+     * @return true if the snapshot is current
+     */
+    boolean isCurrentSnapshot(FrozenGameGraph candidate) {
+        return candidate != null && snapshot == candidate;
+    }
+
+    /**
+     * Writes the new locked state of a passage into the frozen snapshot, if one
+     * is current.
+     *
+     * @param connection the connection whose locked state changed
+     */
+    void snapshotLockChanged(Connection connection) {
+        FrozenGameGraph current = snapshot;
+        if (current != null) {
+            current.applyLock(connection.getFrom(), connection.getTo(), connection.isLocked());
+        }
+    }
+
+    /**
+     * Registers a listener to be notified whenever a connection of this graph
+     * becomes traversable or stops being traversable.
+     *
+     * @param listener the listener to add
+     */
+    public void addTopologyListener(TopologyListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously added to this graph.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeTopologyListener(TopologyListener listener) {
+        try {
+            listeners.remove(listener);
+        } catch (EmptyCollectionException | NoSuchElementException e) {
+            // Listener was not registered
+        }
+    }
+
+    /**
+     * Bumps the topology version after one direction of a passage changed and
+     * notifies the registered listeners.
+     *
+     * @param from the source room of the changed connection
+     * @param to the destination room of the changed connection
+     * @param traversable true if the connection now exists and is unlocked
+     */
+    protected void edgeChanged(Room from, Room to, boolean traversable) {
+        long previousVersion = topologyVersion;
+        topologyChanged();
+        if (traversable) {
+            mergeComponents(from, to, previousVersion);
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).edgeChanged(from, to, traversable);
         }
     }
+
+    /**
+     * Reports a change of a whole passage: both of its directions have become
+     * traversable, or both have stopped being traversable.
+     *
+     * @param room1 one room of the passage
+     * @param room2 the other room of the passage
+     * @param traversable true if the passage now exists and is unlocked
+     */
+    protected void passageChanged(Room room1, Room room2, boolean traversable) {
+        edgeChanged(room1, room2, traversable);
+        edgeChanged(room2, room1, traversable);
+    }
     
     /**
-     * Removes the edge between two rooms from both the adjacency matrix and
-     * connection matrix. Clears both directions of the connection to ensure
-     * complete removal from the undirected graph structure.
+     * Removes the edge between the rooms stored at two indices from both the
+     * adjacency matrix and connection matrix. Clears both directions of the
+     * connection to ensure complete removal from the undirected graph structure.
      *
-     * @param vertex1 the first room
-     * @param vertex2 the second room
+     * @param index1 the index of the first room
+     * @param index2 the index of the second room
      */
     @Override
-    public void removeEdge(Room vertex1, Room vertex2) {
+    public void removeEdge(int index1, int index2) {
         // Call parent to remove undirected edge in adjacency matrix
-        super.removeEdge(vertex1, vertex2);
-        int index1 = getIndex(vertex1);
-        int index2 = getIndex(vertex2);
+        super.removeEdge(index1, index2);
         if (indexIsValid(index1) && indexIsValid(index2)) {
             // Clear both directions of the connection
+            Connection old = connectionMatrix[index1][index2];
+            if (old != null) {
+                old.setGraph(null);
+            }
             connectionMatrix[index1][index2] = null;
             connectionMatrix[index2][index1] = null;
+            structureChanged();
+            passageChanged((Room) vertices[index1], (Room) vertices[index2], false);
         }
     }
     
     /**
-     * Returns the Connection object between two rooms if an edge exists.
-     * Retrieves the directional connection from vertex1 to vertex2 with all
-     * locking and key information preserved.
+     * Returns true if the connection between two adjacent rooms is locked.
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return true if a connection exists and is locked, false otherwise
+     */
+    @Override
+    protected boolean isLocked(int index1, int index2) {
+        Connection conn = connectionMatrix[index1][index2];
+        return conn != null && conn.isLocked();
+    }
+
+    /**
+     * Returns the Connection object between two rooms if an edge exists. The
+     * same Connection is returned whichever room is given first.
      *
-     * @param vertex1 the source room
-     * @param vertex2 the destination room
-     * @return the Connection from vertex1 to vertex2, or null if no edge exists
+     * @param vertex1 one room
+     * @param vertex2 the other room
+     * @return the Connection between vertex1 and vertex2, or null if no edge exists
      */
     public Connection getConnection(Room vertex1, Room vertex2) {
-        int index1 = getIndex(vertex1);
-        int index2 = getIndex(vertex2);
+        return getConnection(getIndex(vertex1), getIndex(vertex2));
+    }
+
+    /**
+     * Returns the Connection object between the rooms stored at two indices.
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return the Connection between index1 and index2, or null if no edge exists
+     */
+    public Connection getConnection(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
             return connectionMatrix[index1][index2];
         }
@@ -113,20 +431,30 @@ public class GameGraph extends Graph<Room> {
     }
 
     /**
-     * Returns all outgoing Connection objects from a specific room.
+     * Returns the Connection objects of every passage of a specific room.
      * Collects all Connection objects where edges exist in the adjacency matrix
-     * and Connection objects are stored in the connection matrix.
+     * and Connection objects are stored in the connection matrix. Use
+     * Connection.getOther(room) to find the neighbour each one leads to.
      *
      * @param room the source room
-     * @return an ArrayUnorderedList containing all outgoing Connections from this room
+     * @return an ArrayUnorderedList containing all Connections from this room
      */
     public ArrayUnorderedList<Connection> getConnections(Room room) {
+        return getConnections(getIndex(room));
+    }
+
+    /**
+     * Returns all Connection objects from the room stored at an index.
+     *
+     * @param index the index of the source room
+     * @return an ArrayUnorderedList containing all Connections from this room
+     */
+    public ArrayUnorderedList<Connection> getConnections(int index) {
         ArrayUnorderedList<Connection> connections = new ArrayUnorderedList<>();
-        int index = getIndex(room);
         if (indexIsValid(index)) {
-            // Iterate through all vertices and collect connections from current room
-            for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[index][i] && connectionMatrix[index][i] != null) {
+            // Walk the neighbours of the current room and collect their connections
+            for (int i = nextNeighbour(index, -1); i != -1; i = nextNeighbour(index, i)) {
+                if (connectionMatrix[index][i] != null) {
                     connections.add(connectionMatrix[index][i]);
                 }
             }
@@ -134,9 +462,48 @@ public class GameGraph extends Graph<Room> {
         return connections;
     }
 
+    /**
+     * Copies the Connection objects of a room into a caller-supplied
+     * buffer and returns how many were stored, so loops over the connections of
+     * many rooms can reuse one buffer instead of allocating a list per room.
+     * If the buffer is too small, only the first buffer.length connections are
+     * stored and counted; a buffer of MAX_ROOM_CONNECTIONS holds every
+     * connection of a room on a grid map.
+     *
+     * @param room the source room
+     * @param buffer the array to fill with the connections
+     * @return the number of connections stored in the buffer, at most buffer.length
+     */
+    public int getConnections(Room room, Connection[] buffer) {
+        return getConnections(getIndex(room), buffer);
+    }
+
+    /**
+     * Copies the Connection objects of the room stored at an index into
+     * a caller-supplied buffer and returns how many were stored. Connections
+     * beyond buffer.length are left out.
+     *
+     * @param index the index of the source room
+     * @param buffer the array to fill with the connections
+     * @return the number of connections stored in the buffer, at most buffer.length
+     */
+    public int getConnections(int index, Connection[] buffer) {
+        int count = 0;
+        if (indexIsValid(index)) {
+            for (int i = nextNeighbour(index, -1); i != -1; i = nextNeighbour(index, i)) {
+                Connection conn = connectionMatrix[index][i];
+                if (conn != null && count < buffer.length) {
+                    buffer[count++] = conn;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns an iterator containing the shortest path between two rooms using
-     * Dijkstra's algorithm. Skips locked connections to find paths only through
+     * the current pathfinding strategy (Dijkstra's algorithm unless another one
+     * was selected). Skips locked connections to find paths only through
      * passable connections. Returns an empty iterator if no path exists.
      *
      * @param startVertex the starting room
@@ -145,84 +512,363 @@ public class GameGraph extends Graph<Room> {
      */
     @Override
     public Iterator<Room> iteratorShortestPath(Room startVertex, Room targetVertex) {
-        // Dijkstra implementation
-        int startIndex = getIndex(startVertex);
-        int targetIndex = getIndex(targetVertex);
-        
+        return iteratorShortestPath(getIndex(startVertex), getIndex(targetVertex));
+    }
+
+    /**
+     * Returns an iterator containing the shortest path between the rooms stored
+     * at two indices using the current pathfinding strategy, skipping locked connections.
+     *
+     * @param startIndex the index of the starting room
+     * @param targetIndex the index of the destination room
+     * @return an iterator containing rooms along the shortest path from start to target
+     */
+    @Override
+    public Iterator<Room> iteratorShortestPath(int startIndex, int targetIndex) {
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
             return new ArrayUnorderedList<Room>().iterator();
         }
+        return pathfinder.shortestPath(this, startIndex, targetIndex);
+    }
 
-        // Initialize distance array: all vertices unreachable except start vertex
-        double[] dist = new double[numVertices];
-        int[] prev = new int[numVertices];
-        boolean[] visited = new boolean[numVertices];
+    /**
+     * Returns the room closest to the given room, by number of unlocked passages,
+     * that satisfies a predicate. The search stops as soon as a match is found,
+     * so it only explores the rooms nearer than that match.
+     *
+     * @param source the room to search from
+     * @param predicate the condition the wanted room must satisfy
+     * @return the nearest matching room, or null if no reachable room matches
+     */
+    public Room findNearest(Room source, Predicate<Room> predicate) {
+        return findNearest(source, predicate, Integer.MAX_VALUE);
+    }
 
-        for (int i = 0; i < numVertices; i++) {
-            dist[i] = Double.MAX_VALUE;
-            prev[i] = -1;
-            visited[i] = false;
-        }
+    /**
+     * Returns the room closest to the given room that satisfies a predicate,
+     * ignoring rooms further than maxDistance passages away.
+     *
+     * @param source the room to search from
+     * @param predicate the condition the wanted room must satisfy
+     * @param maxDistance the largest number of passages allowed between the source
+     * and the match
+     * @return the nearest matching room, or null if none lies within maxDistance
+     */
+    public Room findNearest(Room source, Predicate<Room> predicate, int maxDistance) {
+        ArrayUnorderedList<Room> sources = new ArrayUnorderedList<>(1);
+        sources.add(source);
+        return findNearest(sources, predicate, maxDistance);
+    }
 
-        // Distance from start to itself is zero
-        dist[startIndex] = 0;
+    /**
+     * Returns the room closest to any of the given rooms that satisfies a
+     * predicate, using a breadth-first search started from all sources at once
+     * over unlocked connections. Rooms further than maxDistance from every source
+     * are never explored.
+     *
+     * @param sources the rooms to search from
+     * @param predicate the condition the wanted room must satisfy
+     * @param maxDistance the largest number of passages allowed between a source
+     * and the match
+     * @return the nearest matching room, or null if none lies within maxDistance
+     */
+    public Room findNearest(ArrayUnorderedList<Room> sources, Predicate<Room> predicate, int maxDistance) {
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayQueue queue = ws.queue();
+        try {
+            Iterator<Room> it = sources.iterator();
+            while (it.hasNext()) {
+                int index = getIndex(it.next());
+                if (indexIsValid(index) && !ws.isReached(index)) {
+                    ws.reach(index, -1, 0);
+                    queue.enqueueInt(index);
+                }
+            }
 
-        // Main Dijkstra loop: relax edges from unvisited vertex with minimum distance
-        for (int i = 0; i < numVertices; i++) {
-            int u = -1;
-            double minDist = Double.MAX_VALUE;
+            while (!queue.isEmpty()) {
+                int u;
+                try {
+                    u = queue.dequeueInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                // Rooms leave the queue in distance order, so the first match is the nearest
+                Room room = getVertex(u);
+                if (predicate.test(room)) {
+                    return room;
+                }
+                double level = ws.distanceOf(u);
+                if (level >= maxDistance) {
+                    continue;
+                }
 
-            // Find unvisited vertex with minimum distance (greedy selection)
-            for (int j = 0; j < numVertices; j++) {
-                if (!visited[j] && dist[j] < minDist) {
-                    minDist = dist[j];
-                    u = j;
+                for (int v = nextNeighbour(u, -1); v != -1; v = nextNeighbour(u, v)) {
+                    if (!ws.isReached(v) && !isLocked(u, v)) {
+                        ws.reach(v, u, level + 1);
+                        queue.enqueueInt(v);
+                    }
                 }
             }
+        } finally {
+            releaseWorkspace(ws);
+        }
+        return null;
+    }
 
-            // If no reachable vertex found or target reached, terminate early
-            if (u == -1 || u == targetIndex) {
-                break;
-            }
+    /**
+     * Returns true if one room can currently reach the other through unlocked
+     * connections. Answered from a union-find forest of the unlocked passages in
+     * O(α(n)) time once the forest is built; see sameComponent.
+     *
+     * @param vertex1 the first room
+     * @param vertex2 the second room
+     * @return true if both rooms are in the graph and in the same unlocked component
+     */
+    public boolean isConnected(Room vertex1, Room vertex2) {
+        return sameComponent(getIndex(vertex1), getIndex(vertex2));
+    }
+
+    /**
+     * Returns true if the rooms stored at two indices lie in the same component
+     * once locked connections are treated as absent. A passage joins its rooms
+     * while at least one of its directions is unlocked; levers lock both
+     * directions together, so on game maps this is exactly mutual reachability.
+     * The forest is rebuilt in O(E α(n)) time after a passage is closed, locked
+     * or removed, while opening or unlocking a passage just merges two sets.
+     *
+     * @param index1 the index of the first room
+     * @param index2 the index of the second room
+     * @return true if both indices hold rooms in the same unlocked component
+     */
+    public synchronized boolean sameComponent(int index1, int index2) {
+        if (!indexIsValid(index1) || !indexIsValid(index2)) {
+            return false;
+        }
+        return unlockedComponents().connected(index1, index2);
+    }
 
-            visited[u] = true;
+    /**
+     * Returns the number of components of this graph once locked connections
+     * are treated as absent.
+     *
+     * @return the number of unlocked components, 0 if the graph is empty
+     */
+    public synchronized int getComponentCount() {
+        if (isEmpty()) {
+            return 0;
+        }
+        // Empty slots of the index range are singleton sets that hold no room
+        return unlockedComponents().getSetCount() - (indexBound() - numVertices);
+    }
 
-            // Relax edges to all unvisited neighbors of current vertex
-            for (int v = 0; v < numVertices; v++) {
-                if (adjMatrix[u][v] && !visited[v]) {
-                    Connection conn = connectionMatrix[u][v];
-                    // Skip locked connections: they cannot be traversed
-                    if (conn != null && conn.isLocked()) {
-                        continue;
-                    }
-                    
-                    // Update distance if path through u to v is shorter
-                    double alt = dist[u] + 1; // Weight 1 for now
-                    if (alt < dist[v]) {
-                        dist[v] = alt;
-                        prev[v] = u;
+    /**
+     * Returns the union-find forest of the unlocked passages, rebuilding it if
+     * the topology changed in a way mergeComponents could not follow.
+     *
+     * @return the up-to-date forest over the room indices
+     */
+    private DisjointSet unlockedComponents() {
+        int bound = indexBound();
+        if (components == null || components.size() != bound) {
+            components = new DisjointSet(bound);
+            componentsVersion = -1;
+        }
+        if (componentsVersion != topologyVersion) {
+            components.reset();
+            for (int i = 0; i < bound; i++) {
+                if (!indexIsValid(i)) {
+                    continue;
+                }
+                for (int j = nextNeighbour(i, -1); j != -1; j = nextNeighbour(i, j)) {
+                    if (j > i && !isLocked(i, j)) {
+                        components.union(i, j);
                     }
                 }
             }
+            componentsVersion = topologyVersion;
+        }
+        return components;
+    }
+
+    /**
+     * Keeps the union-find forest current after a passage became traversable.
+     * Opening a passage can only merge components, so a forest that was up to
+     * date just before the change only needs one union.
+     *
+     * @param from the source room of the opened connection
+     * @param to the destination room of the opened connection
+     * @param previousVersion the topology version before the change
+     */
+    private synchronized void mergeComponents(Room from, Room to, long previousVersion) {
+        if (components == null || componentsVersion != previousVersion) {
+            return;
+        }
+        int index1 = getIndex(from);
+        int index2 = getIndex(to);
+        if (index1 >= 0 && index2 >= 0 && index1 < components.size() && index2 < components.size()) {
+            components.union(index1, index2);
+            componentsVersion = topologyVersion;
         }
+    }
+
+    /**
+     * Returns true if a connection is critical: its passage is a bridge of the
+     * maze, the only route between the rooms on either side, so locking it
+     * really cuts the map in two. Locks are ignored, since a lever can reopen a
+     * locked detour. Answered in O(1) from a Tarjan analysis that is rebuilt in
+     * O(V + E) time on the first query after a passage was added or removed;
+     * lever toggles do not invalidate it.
+     *
+     * @param connection the connection to check, in either direction
+     * @return true if the connection belongs to this graph and is a bridge
+     */
+    public boolean isCritical(Connection connection) {
+        return isCritical(getIndex(connection.getFrom()), getIndex(connection.getTo()));
+    }
+
+    /**
+     * Returns true if the passage between the rooms stored at two indices is a
+     * bridge of the maze. See isCritical(Connection).
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return true if the rooms share a passage and it is a bridge
+     */
+    public synchronized boolean isCritical(int index1, int index2) {
+        return chokepoints().isBridge(index1, index2);
+    }
+
+    /**
+     * Returns true if a room is an articulation point of the maze: removing it
+     * would leave some rooms of its component unable to reach the others.
+     *
+     * @param room the room to check
+     * @return true if the room is an articulation point
+     */
+    public synchronized boolean isArticulationPoint(Room room) {
+        return chokepoints().isArticulationPoint(getIndex(room));
+    }
 
-        // Reconstruct path from start to target using predecessor array
-        ArrayUnorderedList<Room> path = new ArrayUnorderedList<>();
-        int curr = targetIndex;
-        
-        // Check if target is reachable (distance not infinity)
-        if (dist[targetIndex] == Double.MAX_VALUE) {
-             return path.iterator();
+    /**
+     * Returns one connection per bridge of the maze, each leading from the room
+     * nearer the start of the analysis to the room it cuts off.
+     *
+     * @return a list of the critical connections
+     */
+    public synchronized ArrayUnorderedList<Connection> getBridges() {
+        ChokepointAnalysis analysis = chokepoints();
+        ArrayUnorderedList<Connection> bridges = new ArrayUnorderedList<>(analysis.getBridgeCount());
+        for (int v = 0; v < indexBound(); v++) {
+            int u = analysis.parentOf(v);
+            if (u != -1 && analysis.isBridge(u, v)) {
+                bridges.add(getConnection(u, v));
+            }
         }
+        return bridges;
+    }
 
-        // Backtrack from target to start using predecessor links
-        if (prev[curr] != -1 || curr == startIndex) {
-            while (curr != -1) {
-                path.addToFront((Room) vertices[curr]);
-                curr = prev[curr];
+    /**
+     * Returns every articulation point of the maze.
+     *
+     * @return a list of the rooms whose removal would split the map
+     */
+    public synchronized ArrayUnorderedList<Room> getArticulationPoints() {
+        ChokepointAnalysis analysis = chokepoints();
+        ArrayUnorderedList<Room> rooms = new ArrayUnorderedList<>(analysis.getArticulationCount());
+        for (int i = 0; i < indexBound(); i++) {
+            if (analysis.isArticulationPoint(i)) {
+                rooms.add(getVertex(i));
             }
         }
-        
-        return path.iterator();
+        return rooms;
+    }
+
+    /**
+     * Returns the bridge and articulation point analysis of the current
+     * structure, running it again if a room or passage was added or removed
+     * since the last one. The analysis ignores locks, so lever toggles keep it.
+     *
+     * @return the up-to-date analysis
+     */
+    private ChokepointAnalysis chokepoints() {
+        if (chokepoints == null || chokepointsVersion != structureVersion) {
+            chokepoints = new ChokepointAnalysis(this);
+            chokepointsVersion = structureVersion;
+        }
+        return chokepoints;
+    }
+
+    /**
+     * Selects the algorithm used by iteratorShortestPath, here and in the
+     * current frozen snapshot.
+     *
+     * @param pathfinder the pathfinding strategy to use
+     */
+    public void setPathfindingStrategy(PathfindingStrategy pathfinder) {
+        this.pathfinder = pathfinder;
+        FrozenGameGraph current = snapshot;
+        if (current != null) {
+            current.setPathfindingStrategy(pathfinder);
+        }
+    }
+
+    /**
+     * Returns the algorithm currently used by iteratorShortestPath.
+     *
+     * @return the current pathfinding strategy
+     */
+    public PathfindingStrategy getPathfindingStrategy() {
+        return pathfinder;
+    }
+
+    /**
+     * Returns how many rooms the last shortest path query expanded
+     * (removed from the open set and had their neighbours relaxed).
+     *
+     * @return the number of rooms expanded by the last query
+     */
+    public int getLastNodesExpanded() {
+        return lastNodesExpanded;
+    }
+
+    /**
+     * Returns the total number of rooms expanded by all shortest path queries
+     * since the graph was created or the counters were reset.
+     *
+     * @return the total number of expanded rooms
+     */
+    public long getTotalNodesExpanded() {
+        return totalNodesExpanded;
+    }
+
+    /**
+     * Returns the number of shortest path queries answered since the graph was
+     * created or the counters were reset.
+     *
+     * @return the number of shortest path queries
+     */
+    public long getPathQueryCount() {
+        return pathQueries;
+    }
+
+    /**
+     * Resets the node expansion counters.
+     */
+    public void resetSearchCounters() {
+        lastNodesExpanded = 0;
+        totalNodesExpanded = 0;
+        pathQueries = 0;
+    }
+
+    /**
+     * Records the number of rooms a pathfinding strategy expanded for one query.
+     *
+     * @param expanded the number of rooms expanded
+     */
+    @Override
+    void recordSearch(int expanded) {
+        lastNodesExpanded = expanded;
+        totalNodesExpanded += expanded;
+        pathQueries++;
     }
 }
@@ -0,0 +1,165 @@
+package DataStructures.Graph;
+
+import Models.Connection;
+import Models.Room;
+
+/**
+ * GameGraphBuilder collects the rooms and passages of a map whose final size is
+ * known and turns them into a GameGraph in one step. The graph is created at
+ * its final capacity, so its adjacency and connection matrices are allocated
+ * once instead of being doubled and copied as rooms arrive, and the passages
+ * are stored without the per-passage work of addEdge: no topology events and a
+ * single version bump at the end. Rooms get their indices in the order they
+ * were added. For rooms laid out on a grid, GridGraphBuilder builds a GridGraph
+ * instead.
+ */
+public class GameGraphBuilder {
+
+    private final Room[] rooms;
+    private final Connection[] passages;
+    private int roomCount;
+    private int passageCount;
+    private boolean built;
+
+    /**
+     * Creates a builder for a graph with the given final number of rooms and
+     * passages.
+     *
+     * @param roomCount the number of rooms the graph will hold
+     * @param passageCount the number of passages the graph will hold
+     */
+    public GameGraphBuilder(int roomCount, int passageCount) {
+        this.rooms = new Room[roomCount];
+        this.passages = new Connection[passageCount];
+    }
+
+    /**
+     * Adds a room to the graph being built.
+     *
+     * @param room the room to add
+     * @return this builder
+     * @throws IllegalStateException if the declared number of rooms was already added
+     */
+    public GameGraphBuilder addRoom(Room room) {
+        checkNotBuilt();
+        if (roomCount == rooms.length) {
+            throw new IllegalStateException("Número de salas excedido.");
+        }
+        rooms[roomCount++] = room;
+        return this;
+    }
+
+    /**
+     * Adds every room of an array to the graph being built, in array order.
+     *
+     * @param rooms the rooms to add
+     * @return this builder
+     * @throws IllegalStateException if the rooms do not fit in the declared number of rooms
+     */
+    public GameGraphBuilder addRooms(Room[] rooms) {
+        checkNotBuilt();
+        if (rooms.length > this.rooms.length - roomCount) {
+            throw new IllegalStateException("Número de salas excedido.");
+        }
+        System.arraycopy(rooms, 0, this.rooms, roomCount, rooms.length);
+        roomCount += rooms.length;
+        return this;
+    }
+
+    /**
+     * Adds a passage to the graph being built. Both of its rooms must be added
+     * to this builder, before or after the passage.
+     *
+     * @param passage the connection describing the passage
+     * @return this builder
+     * @throws IllegalStateException if the declared number of passages was already added
+     */
+    public GameGraphBuilder addPassage(Connection passage) {
+        checkNotBuilt();
+        if (passageCount == passages.length) {
+            throw new IllegalStateException("Número de passagens excedido.");
+        }
+        passages[passageCount++] = passage;
+        return this;
+    }
+
+    /**
+     * Adds every passage of an array to the graph being built.
+     *
+     * @param passages the connections describing the passages
+     * @return this builder
+     * @throws IllegalStateException if the passages do not fit in the declared number of passages
+     */
+    public GameGraphBuilder addPassages(Connection[] passages) {
+        checkNotBuilt();
+        if (passages.length > this.passages.length - passageCount) {
+            throw new IllegalStateException("Número de passagens excedido.");
+        }
+        System.arraycopy(passages, 0, this.passages, passageCount, passages.length);
+        passageCount += passages.length;
+        return this;
+    }
+
+    /**
+     * Returns the number of rooms added so far.
+     *
+     * @return the number of rooms
+     */
+    public int getRoomCount() {
+        return roomCount;
+    }
+
+    /**
+     * Returns the number of passages added so far.
+     *
+     * @return the number of passages
+     */
+    public int getPassageCount() {
+        return passageCount;
+    }
+
+    /**
+     * Builds the graph. Passages whose rooms were not added are skipped, and a
+     * passage added twice keeps its first connection, locked if either one is,
+     * as with GameGraph.addEdge. A builder can only be built once, since the
+     * connections become part of the graph.
+     *
+     * @return a graph holding every room and passage added to this builder
+     * @throws IllegalStateException if this builder was already built
+     */
+    public GameGraph build() {
+        checkNotBuilt();
+        built = true;
+        GameGraph graph = new GameGraph(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            graph.addVertex(rooms[i]);
+        }
+        for (int i = 0; i < passageCount; i++) {
+            Connection passage = passages[i];
+            int index1 = graph.getIndex(passage.getFrom());
+            int index2 = graph.getIndex(passage.getTo());
+            if (index1 < 0 || index2 < 0) {
+                continue;
+            }
+            Connection existing = graph.getConnection(index1, index2);
+            if (existing == null) {
+                graph.loadPassage(index1, index2, passage);
+            } else if (passage.isLocked()) {
+                existing.setLocked(true);
+            }
+        }
+        graph.topologyChanged();
+        return graph;
+    }
+
+    /**
+     * Throws if this builder was already turned into a graph.
+     *
+     * @throws IllegalStateException if build() was already called
+     */
+    private void checkNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("Grafo já construído.");
+        }
+    }
+}
@@ -1,48 +1,98 @@
 package DataStructures.Graph;
 
 import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.DisjointSet.DisjointSet;
+import DataStructures.Exceptions.EmptyCollectionException;
 import DataStructures.Iterator;
-import DataStructures.Queue.LinkedQueue;
-import DataStructures.Stack.LinkedStack;
+import DataStructures.Queue.IntArrayQueue;
+import DataStructures.Stack.IntArrayStack;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
-public class Graph<T> implements GraphADT<T> {
+public class Graph<T> extends IndexedGraph<T> implements GraphADT<T> {
 
-    protected final int DEFAULT_CAPACITY = 10;
+    protected static final int DEFAULT_CAPACITY = 10;
     protected int numVertices;
     protected boolean[][] adjMatrix;
     protected Object[] vertices;
 
+    /**
+     * Number of slots of the vertices array handed out so far. Every vertex lives
+     * in a slot below this bound; a slot whose vertex was removed holds null (a
+     * tombstone) and waits in the free list for the next added vertex, so the
+     * indices of the remaining vertices never change until compact() is called.
+     */
+    protected int slotCount;
+
+    /**
+     * Stack of the tombstoned slots available for reuse.
+     */
+    private int[] freeSlots;
+    private int freeCount;
+
+    /**
+     * Open-addressing hash table mapping vertices to their index. Each slot holds
+     * the vertex index plus one, so zero marks an empty slot. The table is kept at
+     * twice the capacity of the vertices array to keep probe sequences short.
+     */
+    private int[] indexTable;
+    private int indexShift;
+
     /**
      * Creates an empty graph.
      */
     public Graph() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty graph with room for the given number of vertices, so a
+     * graph whose final size is known up front never has to grow.
+     *
+     * @param initialCapacity the number of vertices the graph can hold before it grows
+     */
+    public Graph(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
         numVertices = 0;
-        this.adjMatrix = new boolean[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
-        this.vertices = new Object[DEFAULT_CAPACITY];
+        slotCount = 0;
+        this.adjMatrix = new boolean[capacity][capacity];
+        this.vertices = new Object[capacity];
+        this.freeSlots = new int[capacity];
+        this.freeCount = 0;
+        allocateIndex(tableSizeFor(capacity));
     }
 
     /**
      * Adds a vertex to the graph, expanding the capacity of the graph if
-     * necessary. It also associates an object with the vertex.
+     * necessary. It also associates an object with the vertex. The vertex takes
+     * the most recently freed slot if there is one, otherwise the next unused one.
      *
      * @param vertex the vertex to add to the graph
      */
     @Override
     public void addVertex(T vertex) {
-        if (numVertices == vertices.length) {
-            expandCapacity();
+        int index;
+        if (freeCount > 0) {
+            index = freeSlots[--freeCount];
+        } else {
+            if (slotCount == vertices.length) {
+                expandCapacity();
+            }
+            index = slotCount++;
         }
 
-        vertices[numVertices] = vertex;
-        for (int i = 0; i <= numVertices; i++) {
-            adjMatrix[numVertices][i] = false;
-            adjMatrix[i][numVertices] = false;
-        }
+        vertices[index] = vertex;
+        clearEdges(index);
+        insertIndex(index);
         numVertices++;
     }
 
     /**
-     * Removes a single vertex with the given value from this graph.
+     * Removes a single vertex with the given value from this graph. Its edges
+     * are removed one by one and its slot becomes a tombstone on the free list,
+     * so no other vertex moves and indices held elsewhere stay valid. Costs one
+     * removeEdge per neighbour plus the scan of its neighbours.
      *
      * @param vertex the vertex to be removed from this graph
      */
@@ -50,22 +100,48 @@ public class Graph<T> implements GraphADT<T> {
     public void removeVertex(T vertex) {
         int index = getIndex(vertex);
         if (indexIsValid(index)) {
-            numVertices--;
-
-            for (int i = index; i < numVertices; i++) {
-                vertices[i] = vertices[i + 1];
+            // Removing the edge to i never affects the neighbours after i
+            for (int i = nextNeighbour(index, -1); i != -1; i = nextNeighbour(index, i)) {
+                removeEdge(index, i);
             }
 
-            for (int i = index; i < numVertices; i++) {
-                System.arraycopy(adjMatrix[i + 1], 0, adjMatrix[i], 0, numVertices + 1);
-            }
+            deleteIndex(index);
+            vertices[index] = null;
+            freeSlots[freeCount++] = index;
+            numVertices--;
+        }
+    }
 
-            for (int i = index; i < numVertices; i++) {
-                for (int j = 0; j < numVertices; j++) {
-                    adjMatrix[j][i] = adjMatrix[j][i + 1];
-                }
+    /**
+     * Moves every vertex down into the lowest slots, keeping their relative
+     * order, so the tombstones left by removeVertex disappear and indexBound()
+     * equals size() again. Afterwards the indices of moved vertices are
+     * different, so callers holding indices must translate them with the
+     * returned table. Runs in O(V^2) time on the adjacency matrix.
+     *
+     * @return a table mapping each old index to its new index, or -1 for former tombstones
+     */
+    public int[] compact() {
+        int oldBound = slotCount;
+        int[] newIndex = new int[oldBound];
+        int next = 0;
+        for (int i = 0; i < oldBound; i++) {
+            if (vertices[i] != null) {
+                vertices[next] = vertices[i];
+                newIndex[i] = next++;
+            } else {
+                newIndex[i] = -1;
             }
         }
+        for (int i = next; i < oldBound; i++) {
+            vertices[i] = null;
+        }
+
+        compactEdges(newIndex, oldBound, next);
+        slotCount = next;
+        freeCount = 0;
+        rebuildIndex();
+        return newIndex;
     }
 
     /**
@@ -87,8 +163,8 @@ public class Graph<T> implements GraphADT<T> {
      */
     public void addEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = true;
-            adjMatrix[index2][index1] = true;
+            setEdge(index1, index2, true);
+            setEdge(index2, index1, true);
         }
     }
 
@@ -111,8 +187,8 @@ public class Graph<T> implements GraphADT<T> {
      */
     public void removeEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = false;
-            adjMatrix[index2][index1] = false;
+            setEdge(index1, index2, false);
+            setEdge(index2, index1, false);
         }
     }
 
@@ -136,36 +212,36 @@ public class Graph<T> implements GraphADT<T> {
      * @return an iterator that performs a breadth first traversal
      */
     public Iterator<T> iteratorBFS(int startIndex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
 
         if (!indexIsValid(startIndex)) {
             return resultList.iterator();
         }
 
-        boolean[] visited = new boolean[numVertices];
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-
-        while (!traversalQueue.isEmpty()) {
-            try {
-                x = traversalQueue.dequeue();
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayQueue traversalQueue = ws.queue();
+        try {
+            traversalQueue.enqueueInt(startIndex);
+            ws.visit(startIndex);
+
+            while (!traversalQueue.isEmpty()) {
+                int x;
+                try {
+                    x = traversalQueue.dequeueInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
                 resultList.add((T) vertices[x]);
 
-                for (int i = 0; i < numVertices; i++) {
-                    if (adjMatrix[x][i] && !visited[i]) {
-                        traversalQueue.enqueue(i);
-                        visited[i] = true;
+                for (int i = nextNeighbour(x, -1); i != -1; i = nextNeighbour(x, i)) {
+                    if (!ws.isVisited(i)) {
+                        traversalQueue.enqueueInt(i);
+                        ws.visit(i);
                     }
                 }
-            } catch (Exception e) {
-                // Should not happen
             }
+        } finally {
+            releaseWorkspace(ws);
         }
         return resultList.iterator();
     }
@@ -190,47 +266,99 @@ public class Graph<T> implements GraphADT<T> {
      * @return an iterator that performs a depth first traversal
      */
     public Iterator<T> iteratorDFS(int startIndex) {
-        Integer x;
         boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<>();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
-        boolean[] visited = new boolean[numVertices];
 
         if (!indexIsValid(startIndex)) {
             return resultList.iterator();
         }
 
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-
-        traversalStack.push(startIndex);
-        resultList.add((T) vertices[startIndex]);
-        visited[startIndex] = true;
-
-        while (!traversalStack.isEmpty()) {
-            try {
-                x = traversalStack.peek();
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayStack traversalStack = ws.stack();
+        try {
+            traversalStack.pushInt(startIndex);
+            resultList.add((T) vertices[startIndex]);
+            ws.visit(startIndex);
+
+            while (!traversalStack.isEmpty()) {
+                int x;
+                try {
+                    x = traversalStack.peekInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
                 found = false;
 
-                for (int i = 0; (i < numVertices) && !found; i++) {
-                    if (adjMatrix[x][i] && !visited[i]) {
-                        traversalStack.push(i);
+                for (int i = nextNeighbour(x, -1); (i != -1) && !found; i = nextNeighbour(x, i)) {
+                    if (!ws.isVisited(i)) {
+                        traversalStack.pushInt(i);
                         resultList.add((T) vertices[i]);
-                        visited[i] = true;
+                        ws.visit(i);
                         found = true;
                     }
                 }
                 if (!found && !traversalStack.isEmpty()) {
-                    traversalStack.pop();
+                    try {
+                        traversalStack.popInt();
+                    } catch (EmptyCollectionException e) {
+                        break;
+                    }
                 }
-            } catch (Exception e) {
-                // Should not happen
             }
+        } finally {
+            releaseWorkspace(ws);
         }
         return resultList.iterator();
     }
 
+    /**
+     * Returns a breadth first iterator starting at the given vertex that computes
+     * each vertex only when next() is called. Unlike iteratorBFS, nothing is
+     * traversed up front, so reading the first few vertices costs only as much
+     * as the traversal needed to reach them.
+     *
+     * @param startVertex the starting vertex
+     * @return a lazy breadth first iterator beginning at the given vertex
+     */
+    @Override
+    public Iterator<T> lazyIteratorBFS(T startVertex) {
+        return lazyIteratorBFS(getIndex(startVertex));
+    }
+
+    /**
+     * Returns a lazy breadth first iterator starting at the given index.
+     *
+     * @param startIndex the index to begin the search from
+     * @return a lazy breadth first iterator
+     */
+    public Iterator<T> lazyIteratorBFS(int startIndex) {
+        return new LazyBFSIterator<>(this, startIndex);
+    }
+
+    /**
+     * Returns a depth first iterator starting at the given vertex that computes
+     * each vertex only when next() is called. Unlike iteratorDFS, nothing is
+     * traversed up front, so reading the first few vertices costs only as much
+     * as the traversal needed to reach them.
+     *
+     * @param startVertex the starting vertex
+     * @return a lazy depth first iterator starting at the given vertex
+     */
+    @Override
+    public Iterator<T> lazyIteratorDFS(T startVertex) {
+        return lazyIteratorDFS(getIndex(startVertex));
+    }
+
+    /**
+     * Returns a lazy depth first iterator starting at the given index.
+     *
+     * @param startIndex the index to begin the search traversal from
+     * @return a lazy depth first iterator
+     */
+    public Iterator<T> lazyIteratorDFS(int startIndex) {
+        return new LazyDFSIterator<>(this, startIndex);
+    }
+
     /**
      * Returns an iterator that contains the shortest path between the two
      * vertices.
@@ -242,34 +370,43 @@ public class Graph<T> implements GraphADT<T> {
      */
     @Override
     public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
-        int startIndex = getIndex(startVertex);
-        int targetIndex = getIndex(targetVertex);
+        return iteratorShortestPath(getIndex(startVertex), getIndex(targetVertex));
+    }
+
+    /**
+     * Returns an iterator that contains the shortest path between the two
+     * vertices stored at the given indices.
+     *
+     * @param startIndex the index of the starting vertex
+     * @param targetIndex the index of the ending vertex
+     * @return an iterator that contains the shortest path between the two
+     * vertices
+     */
+    public Iterator<T> iteratorShortestPath(int startIndex, int targetIndex) {
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
 
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
             return resultList.iterator();
         }
 
-        // BFS with predecessor tracking
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
-        boolean[] visited = new boolean[numVertices];
-        int[] parent = new int[numVertices];
-
-        // Initialize
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-            parent[i] = -1;
-        }
-
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-
-        boolean found = false;
-
-        // BFS to find the target and build parent relationships
-        while (!traversalQueue.isEmpty() && !found) {
-            try {
-                int current = traversalQueue.dequeue();
+        // BFS with predecessor tracking in the reusable workspace
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayQueue traversalQueue = ws.queue();
+        IntArrayStack pathStack = ws.stack();
+        try {
+            traversalQueue.enqueueInt(startIndex);
+            ws.reach(startIndex, -1, 0);
+
+            boolean found = false;
+
+            // BFS to find the target and build parent relationships
+            while (!traversalQueue.isEmpty() && !found) {
+                int current;
+                try {
+                    current = traversalQueue.dequeueInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
 
                 if (current == targetIndex) {
                     found = true;
@@ -277,42 +414,74 @@ public class Graph<T> implements GraphADT<T> {
                 }
 
                 // Explore adjacent vertices
-                for (int i = 0; i < numVertices; i++) {
-                    if (adjMatrix[current][i] && !visited[i]) {
-                        traversalQueue.enqueue(i);
-                        visited[i] = true;
-                        parent[i] = current;
+                for (int i = nextNeighbour(current, -1); i != -1; i = nextNeighbour(current, i)) {
+                    if (!ws.isReached(i)) {
+                        traversalQueue.enqueueInt(i);
+                        ws.reach(i, current, ws.distanceOf(current) + 1);
                     }
                 }
-            } catch (Exception e) {
-                // Error handling
             }
-        }
 
-        // If target was not found, return empty iterator
-        if (!found) {
-            return resultList.iterator();
-        }
+            // If target was not found, return empty iterator
+            if (!found) {
+                return resultList.iterator();
+            }
 
-        // Backtrack from target to start using parent array
-        LinkedStack<Integer> pathStack = new LinkedStack<>();
-        int current = targetIndex;
+            // Backtrack from target to start using the recorded parents
+            int current = targetIndex;
+            while (current != -1) {
+                pathStack.pushInt(current);
+                current = ws.parentOf(current);
+            }
 
-        while (current != -1) {
-            pathStack.push(current);
-            current = parent[current];
+            // Build result list from stack (reversing the path)
+            while (!pathStack.isEmpty()) {
+                int index;
+                try {
+                    index = pathStack.popInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                resultList.add((T) vertices[index]);
+            }
+        } finally {
+            releaseWorkspace(ws);
         }
 
-        // Build result list from stack (reversing the path)
-        while (!pathStack.isEmpty()) {
-            try {
-                resultList.add((T) vertices[pathStack.pop()]);
-            } catch (Exception e) {
-                // Should not happen
+        return resultList.iterator();
+    }
+
+    /**
+     * Passes every vertex adjacent to the given vertex to a visitor, in index
+     * order. Neighbours are read straight from the edge storage, so no list is
+     * allocated.
+     *
+     * @param vertex the vertex whose neighbours are visited
+     * @param visitor the action to perform on each neighbour
+     */
+    @Override
+    public void forEachNeighbour(T vertex, Consumer<? super T> visitor) {
+        int index = getIndex(vertex);
+        if (indexIsValid(index)) {
+            for (int i = nextNeighbour(index, -1); i != -1; i = nextNeighbour(index, i)) {
+                visitor.accept(getVertex(i));
             }
         }
+    }
 
-        return resultList.iterator();
+    /**
+     * Passes the index of every vertex adjacent to the vertex at the given
+     * index to a visitor, in index order.
+     *
+     * @param index the index of the vertex whose neighbours are visited
+     * @param visitor the action to perform on each neighbour index
+     */
+    public void forEachNeighbour(int index, IntConsumer visitor) {
+        if (indexIsValid(index)) {
+            for (int i = nextNeighbour(index, -1); i != -1; i = nextNeighbour(index, i)) {
+                visitor.accept(i);
+            }
+        }
     }
 
     /**
@@ -326,7 +495,9 @@ public class Graph<T> implements GraphADT<T> {
     }
 
     /**
-     * Returns true if this graph is connected, false otherwise.
+     * Returns true if this graph is connected, false otherwise. Every edge is
+     * fed to a DisjointSet over the vertex indices, stopping as soon as all
+     * vertices share one set, so no traversal order or result list is built.
      *
      * @return true if this graph is connected
      */
@@ -336,15 +507,23 @@ public class Graph<T> implements GraphADT<T> {
             return false;
         }
 
-        Iterator<T> it = iteratorBFS(0);
-        int count = 0;
+        int bound = indexBound();
+        DisjointSet components = new DisjointSet(bound);
+        // Empty slots stay in sets of their own and are not counted
+        int remaining = numVertices;
 
-        while (it.hasNext()) {
-            it.next();
-            count++;
+        for (int i = 0; i < bound && remaining > 1; i++) {
+            if (!indexIsValid(i)) {
+                continue;
+            }
+            // Each undirected edge is seen from both ends; only union it once
+            for (int j = nextNeighbour(i, -1); j != -1; j = nextNeighbour(i, j)) {
+                if (j > i && components.union(i, j)) {
+                    remaining--;
+                }
+            }
         }
-
-        return (count == numVertices);
+        return remaining == 1;
     }
 
     /**
@@ -374,7 +553,7 @@ public class Graph<T> implements GraphADT<T> {
         result += "----------------\n";
         result += "index\t";
 
-        for (int i = 0; i < numVertices; i++) {
+        for (int i = 0; i < slotCount; i++) {
             result += "" + i;
             if (i < 10) {
                 result += " ";
@@ -382,11 +561,11 @@ public class Graph<T> implements GraphADT<T> {
         }
         result += "\n\n";
 
-        for (int i = 0; i < numVertices; i++) {
+        for (int i = 0; i < slotCount; i++) {
             result += "" + i + "\t";
 
-            for (int j = 0; j < numVertices; j++) {
-                if (adjMatrix[i][j]) {
+            for (int j = 0; j < slotCount; j++) {
+                if (hasEdge(i, j)) {
                     result += "1 ";
                 } else {
                     result += "0 ";
@@ -399,9 +578,9 @@ public class Graph<T> implements GraphADT<T> {
         result += "\n-------------\n";
         result += "index\tvalue\n\n";
 
-        for (int i = 0; i < numVertices; i++) {
+        for (int i = 0; i < slotCount; i++) {
             result += "" + i + "\t";
-            result += vertices[i].toString() + "\n";
+            result += ((vertices[i] != null) ? vertices[i].toString() : "-") + "\n";
         }
         result += "\n";
         return result;
@@ -415,47 +594,284 @@ public class Graph<T> implements GraphADT<T> {
     protected void expandCapacity() {
         // Create new arrays with doubled capacity
         Object[] largerVertices = new Object[vertices.length * 2];
-        boolean[][] largerAdjMatrix = new boolean[vertices.length * 2][vertices.length * 2];
 
         // Copy existing vertices to new array
-        System.arraycopy(vertices, 0, largerVertices, 0, numVertices);
+        System.arraycopy(vertices, 0, largerVertices, 0, slotCount);
 
-        // Copy existing adjacency matrix rows to new matrix
-        for (int i = 0; i < numVertices; i++) {
-            System.arraycopy(adjMatrix[i], 0, largerAdjMatrix[i], 0, numVertices);
-        }
+        // Grow the edge storage to the same capacity
+        expandEdges(vertices.length * 2);
 
         // Update references to use larger arrays
         vertices = largerVertices;
-        adjMatrix = largerAdjMatrix;
+        freeSlots = Arrays.copyOf(freeSlots, vertices.length);
+
+        // Grow the hash index together with the vertices array
+        allocateIndex(tableSizeFor(vertices.length));
+        rebuildIndex();
     }
 
     /**
      * Returns the index of the specified vertex in the vertices array.
-     * Performs a linear search through the array comparing vertices using equals().
+     * Looks the vertex up in the hash index, comparing candidates with equals(),
+     * so the lookup runs in expected constant time. Vertex types that override
+     * equals() must override hashCode() consistently.
      *
      * @param vertex the vertex to search for
      * @return the index of the vertex if found, -1 if not found
      */
-    protected int getIndex(T vertex) {
-        // Linearly search through all vertices for a matching element
-        for (int i = 0; i < numVertices; i++) {
-            if (vertices[i].equals(vertex)) {
+    @Override
+    public int getIndex(T vertex) {
+        if (vertex == null) {
+            return -1;
+        }
+        int mask = indexTable.length - 1;
+        int slot = home(vertex.hashCode());
+
+        // Probe linearly until the vertex or an empty slot is found
+        while (indexTable[slot] != 0) {
+            int index = indexTable[slot] - 1;
+            if (vertices[index].equals(vertex)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the vertex stored at the given index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index, or null if the index is not valid
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getVertex(int index) {
+        if (!indexIsValid(index)) {
+            return null;
+        }
+        return (T) vertices[index];
+    }
+
+    /**
+     * Adds the vertex stored at the given index to the hash index. Equal vertices
+     * keep their insertion order along the probe sequence, so lookups return the
+     * first of them, like the former linear search did.
+     *
+     * @param index the index of the vertex in the vertices array
+     */
+    private void insertIndex(int index) {
+        int mask = indexTable.length - 1;
+        int slot = home(vertices[index].hashCode());
+        while (indexTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        indexTable[slot] = index + 1;
+    }
+
+    /**
+     * Removes the vertex stored at the given index from the hash index. The
+     * entries after it in the same probe run are moved back, so no gap breaks
+     * their probe sequence and their relative order is kept.
+     *
+     * @param index the index of the vertex in the vertices array
+     */
+    private void deleteIndex(int index) {
+        int mask = indexTable.length - 1;
+        int gap = home(vertices[index].hashCode());
+        while (indexTable[gap] != index + 1) {
+            gap = (gap + 1) & mask;
+        }
+
+        int next = (gap + 1) & mask;
+        while (indexTable[next] != 0) {
+            int home = home(vertices[indexTable[next] - 1].hashCode());
+            // The entry may fill the gap only if the gap lies between its home and its slot
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                indexTable[gap] = indexTable[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        indexTable[gap] = 0;
+    }
+
+    /**
+     * Clears the hash index and inserts every current vertex again.
+     * Used after the vertex indices shift or the table grows.
+     */
+    private void rebuildIndex() {
+        for (int i = 0; i < indexTable.length; i++) {
+            indexTable[i] = 0;
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (vertices[i] != null) {
+                insertIndex(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest power of two holding at least twice the given capacity.
+     *
+     * @param capacity the number of vertices the table must hold
+     * @return the table size
+     */
+    private static int tableSizeFor(int capacity) {
+        int size = 1;
+        while (size < capacity * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the home slot of a hash code: the top bits of the hash multiplied by
+     * the golden ratio constant, so hash codes that differ only in a few low bits,
+     * like those of neighbouring rooms, still land far apart in the table.
+     *
+     * @param hash the hash code of a vertex
+     * @return the home slot
+     */
+    private int home(int hash) {
+        return (hash * 0x9E3779B9) >>> indexShift;
+    }
+
+    /**
+     * Replaces the hash index with an empty table of the given size.
+     *
+     * @param size the table size, a power of two of at least 2
+     */
+    private void allocateIndex(int size) {
+        indexTable = new int[size];
+        indexShift = 32 - Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * Returns the next vertex adjacent to the given one, in increasing index order.
+     * Traversals enumerate neighbours with
+     * {@code for (v = nextNeighbour(u, -1); v != -1; v = nextNeighbour(u, v))},
+     * which lets subclasses with other edge storage supply neighbours directly.
+     *
+     * @param index the vertex whose neighbours are enumerated
+     * @param previous the neighbour returned by the previous call, or -1 to start
+     * @return the index of the next neighbour, or -1 if there are no more
+     */
+    @Override
+    protected int nextNeighbour(int index, int previous) {
+        for (int i = previous + 1; i < slotCount; i++) {
+            if (adjMatrix[index][i]) {
                 return i;
             }
         }
         return -1;
     }
 
+    // ----------------------------------------------------------------
+    // Edge Storage
+    // ----------------------------------------------------------------
+    /**
+     * Returns true if the adjacency matrix marks an edge from one index to another.
+     *
+     * @param index1 the first index
+     * @param index2 the second index
+     * @return true if the edge exists
+     */
+    protected boolean hasEdge(int index1, int index2) {
+        return adjMatrix[index1][index2];
+    }
+
+    /**
+     * Sets or clears one direction of an edge in the adjacency matrix.
+     *
+     * @param index1 the first index
+     * @param index2 the second index
+     * @param present true to add the edge, false to remove it
+     */
+    protected void setEdge(int index1, int index2, boolean present) {
+        adjMatrix[index1][index2] = present;
+    }
+
+    /**
+     * Clears the row and column of a newly used index, so a vertex placed there
+     * starts without edges.
+     *
+     * @param index the index being taken by a new vertex
+     */
+    protected void clearEdges(int index) {
+        for (int i = 0; i < slotCount; i++) {
+            adjMatrix[index][i] = false;
+            adjMatrix[i][index] = false;
+        }
+    }
+
+    /**
+     * Renumbers the edge storage after compact() moved the vertices. Each row
+     * first has its columns moved to their new positions, which are never
+     * above the old ones, then is swapped into its new row; every cell at or
+     * beyond the new bound is cleared at the end.
+     *
+     * @param newIndex the new index of each old index, or -1 for former tombstones
+     * @param oldBound the slot count before compacting
+     * @param newBound the slot count after compacting
+     */
+    protected void compactEdges(int[] newIndex, int oldBound, int newBound) {
+        for (int i = 0; i < oldBound; i++) {
+            if (newIndex[i] == -1) {
+                continue;
+            }
+            boolean[] row = adjMatrix[i];
+            for (int j = 0; j < oldBound; j++) {
+                if (newIndex[j] != -1) {
+                    row[newIndex[j]] = row[j];
+                }
+            }
+            adjMatrix[i] = adjMatrix[newIndex[i]];
+            adjMatrix[newIndex[i]] = row;
+        }
+
+        for (int i = 0; i < oldBound; i++) {
+            Arrays.fill(adjMatrix[i], (i < newBound) ? newBound : 0, oldBound, false);
+        }
+    }
+
     /**
-     * Returns true if the specified index is valid for this graph.
-     * Valid indices range from 0 (inclusive) to numVertices (exclusive).
+     * Grows the adjacency matrix to the given capacity, copying existing rows.
+     *
+     * @param capacity the new number of rows and columns
+     */
+    protected void expandEdges(int capacity) {
+        boolean[][] largerAdjMatrix = new boolean[capacity][capacity];
+
+        // Copy existing adjacency matrix rows to new matrix
+        for (int i = 0; i < slotCount; i++) {
+            System.arraycopy(adjMatrix[i], 0, largerAdjMatrix[i], 0, slotCount);
+        }
+        adjMatrix = largerAdjMatrix;
+    }
+
+    /**
+     * Returns one more than the largest index a vertex can currently occupy.
+     * Per-vertex arrays used by traversals are sized with this bound. It
+     * includes tombstoned slots, so it can exceed size() until compact() runs.
+     *
+     * @return the upper bound (exclusive) of the vertex indices
+     */
+    @Override
+    protected int indexBound() {
+        return slotCount;
+    }
+
+    /**
+     * Returns true if the specified index holds a vertex of this graph.
+     * Valid indices lie below indexBound() and are not tombstones.
      *
      * @param index the index to validate
-     * @return true if the index is within valid bounds, false otherwise
+     * @return true if a vertex is stored at the index, false otherwise
      */
+    @Override
     protected boolean indexIsValid(int index) {
-        return ((index >= 0) && (index < numVertices));
+        return ((index >= 0) && (index < slotCount) && (vertices[index] != null));
     }
 
     /**
@@ -465,10 +881,12 @@ public class Graph<T> implements GraphADT<T> {
      * @return an ArrayUnorderedList containing all vertices in this graph
      */
     public ArrayUnorderedList<T> getVertices() {
-        ArrayUnorderedList<T> list = new ArrayUnorderedList<>();
+        ArrayUnorderedList<T> list = new ArrayUnorderedList<>(numVertices);
         // Iterate through all valid vertices and add them to the result list
-        for (int i = 0; i < numVertices; i++) {
-            list.add((T) vertices[i]);
+        for (int i = 0; i < slotCount; i++) {
+            if (vertices[i] != null) {
+                list.add((T) vertices[i]);
+            }
         }
         return list;
     }
@@ -1,6 +1,7 @@
 package DataStructures.Graph;
 
 import DataStructures.Iterator;
+import java.util.function.Consumer;
 
 public interface GraphADT<T> {
 
@@ -50,6 +51,24 @@ public interface GraphADT<T> {
      */
     public Iterator<T> iteratorDFS(T startVertex);
 
+    /**
+     * Returns a breadth first iterator starting with the given vertex that
+     * advances the traversal only as elements are requested.
+     *
+     * @param startVertex the starting vertex
+     * @return a lazy breadth first iterator beginning at the given vertex
+     */
+    public Iterator<T> lazyIteratorBFS(T startVertex);
+
+    /**
+     * Returns a depth first iterator starting with the given vertex that
+     * advances the traversal only as elements are requested.
+     *
+     * @param startVertex the starting vertex
+     * @return a lazy depth first iterator starting at the given vertex
+     */
+    public Iterator<T> lazyIteratorDFS(T startVertex);
+
     /**
      * Returns an iterator that contains the shortest path between the two
      * vertices.
@@ -61,6 +80,15 @@ public interface GraphADT<T> {
      */
     public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex);
 
+    /**
+     * Passes every vertex adjacent to the given vertex to a visitor, without
+     * building a collection of them.
+     *
+     * @param vertex the vertex whose neighbours are visited
+     * @param visitor the action to perform on each neighbour
+     */
+    public void forEachNeighbour(T vertex, Consumer<? super T> visitor);
+
     /**
      * Returns true if this graph is empty, false otherwise.
      *
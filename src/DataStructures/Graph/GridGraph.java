@@ -0,0 +1,739 @@
+package DataStructures.Graph;
+
+import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Iterator;
+import DataStructures.Queue.IntArrayQueue;
+import DataStructures.Stack.IntArrayStack;
+import Models.Connection;
+import Models.Room;
+
+/**
+ * GridGraph is a GameGraph specialised for rectangular mazes where every room
+ * sits on a grid cell and can only be linked to its four orthogonal neighbours.
+ * Instead of V x V matrices, each cell stores a packed wall mask: the low four
+ * bits mark open passages (up, down, left, right) and the high four bits mark
+ * which of those passages are currently locked. Memory is therefore O(V), and
+ * traversals read the masks directly instead of scanning matrix rows.
+ * Each passage keeps one Connection, stored with the upper or left of its two
+ * cells, so the grid holds two Connection slots per cell rather than four.
+ * The vertex index of the room at (x, y) is y * width + x.
+ */
+public class GridGraph extends GameGraph {
+
+    /** Direction index for the passage towards y - 1. */
+    public static final int UP = 0;
+
+    /** Direction index for the passage towards y + 1. */
+    public static final int DOWN = 1;
+
+    /** Direction index for the passage towards x - 1. */
+    public static final int LEFT = 2;
+
+    /** Direction index for the passage towards x + 1. */
+    public static final int RIGHT = 3;
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int[] OPPOSITE = {DOWN, UP, RIGHT, LEFT};
+    // Directions sorted by the index of the neighbour they lead to
+    private static final int[] INDEX_ORDER = {UP, LEFT, RIGHT, DOWN};
+    private static final int OPEN_MASK = 0x0F;
+    private static final int LOCK_SHIFT = 4;
+
+    private final int width;
+    private final int height;
+    private final Room[] rooms;
+    private final byte[] walls;
+    // Slot 2i holds the passage below cell i, slot 2i + 1 the passage to its right
+    private final Connection[] passages;
+    // One bitplane per direction: bit i is set while cell i can be left that way
+    private final long[][] passable;
+
+    /**
+     * Creates an empty grid graph with room for width x height cells.
+     * No rooms or passages exist until they are added.
+     *
+     * @param width the number of columns of the grid
+     * @param height the number of rows of the grid
+     */
+    public GridGraph(int width, int height) {
+        super();
+        this.width = width;
+        this.height = height;
+        this.rooms = new Room[width * height];
+        this.walls = new byte[width * height];
+        this.passages = new Connection[width * height * 2];
+        this.passable = new long[4][(width * height + 63) >>> 6];
+    }
+
+    /**
+     * Returns the number of columns of the grid.
+     *
+     * @return the grid width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows of the grid.
+     *
+     * @return the grid height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Places a room in the cell given by its coordinates. Rooms outside the grid
+     * are ignored. Adding a room to an occupied cell replaces the stored room but
+     * keeps the passages of that cell.
+     *
+     * @param vertex the room to add
+     */
+    @Override
+    public void addVertex(Room vertex) {
+        int index = cellIndex(vertex.getX(), vertex.getY());
+        if (index == -1) {
+            return;
+        }
+        if (rooms[index] == null) {
+            numVertices++;
+        }
+        rooms[index] = vertex;
+        structureChanged();
+        topologyChanged();
+    }
+
+    /**
+     * Removes a room and every passage touching it. Other cells keep their indices.
+     *
+     * @param vertex the room to remove
+     */
+    @Override
+    public void removeVertex(Room vertex) {
+        int index = getIndex(vertex);
+        if (indexIsValid(index)) {
+            for (int d = 0; d < 4; d++) {
+                if (hasPassage(index, d)) {
+                    removeEdge(index, neighbourIndex(index, d));
+                }
+            }
+            rooms[index] = null;
+            numVertices--;
+            structureChanged();
+            topologyChanged();
+        }
+    }
+
+    /**
+     * Cells have fixed indices computed from their coordinates, so there is
+     * nothing to compact.
+     *
+     * @return the identity table over every cell index
+     */
+    @Override
+    public int[] compact() {
+        int[] newIndex = new int[rooms.length];
+        for (int i = 0; i < newIndex.length; i++) {
+            newIndex[i] = (rooms[i] != null) ? i : -1;
+        }
+        return newIndex;
+    }
+
+    /**
+     * Returns the passability bitplane of a direction: bit i of the returned
+     * words is set while the cell with index i has an open, unlocked passage in
+     * that direction. The plane is kept up to date as passages and locks change,
+     * so bulk algorithms can advance 64 cells at a time with shifts and ANDs.
+     * The returned array is shared with the graph and must not be modified.
+     *
+     * @param dir the direction index (UP, DOWN, LEFT or RIGHT)
+     * @return the live bitplane of that direction
+     */
+    public long[] getPassablePlane(int dir) {
+        return passable[dir];
+    }
+
+    /**
+     * Opens an unlocked passage between two adjacent cells.
+     *
+     * @param index1 the first cell index
+     * @param index2 the second cell index
+     */
+    @Override
+    public void addEdge(int index1, int index2) {
+        if (indexIsValid(index1) && indexIsValid(index2)) {
+            addEdge(rooms[index1], rooms[index2], new Connection(rooms[index1], rooms[index2], false, null));
+        }
+    }
+
+    /**
+     * Opens a passage between two adjacent cells and stores the given Connection
+     * for it. If the cells are already linked, the stored Connection is kept and
+     * only locked if the new one is locked.
+     *
+     * @param index1 the index of the first room
+     * @param index2 the index of the second room
+     * @param connection the Connection object describing the passage
+     */
+    @Override
+    public void addEdge(int index1, int index2, Connection connection) {
+        int dir = directionBetween(index1, index2);
+        if (dir == -1) {
+            return;
+        }
+
+        Connection existing = passages[passageSlot(index1, dir)];
+        if (existing != null) {
+            if (connection.isLocked() && !existing.isLocked()) {
+                existing.setLocked(true);
+            }
+            return;
+        }
+        storePassage(index1, dir, connection);
+        passageChanged(rooms[index1], rooms[index2], !connection.isLocked());
+    }
+
+    /**
+     * Stores a passage while the grid is being built in bulk, writing the wall
+     * masks directly without notifying anyone.
+     *
+     * @param index1 the index of the first room
+     * @param index2 the index of the second room
+     * @param connection the Connection object describing the passage
+     */
+    @Override
+    void loadPassage(int index1, int index2, Connection connection) {
+        int dir = directionBetween(index1, index2);
+        if (dir != -1) {
+            storePassage(index1, dir, connection);
+        }
+    }
+
+    /**
+     * Closes the passage between two adjacent cells in both directions.
+     *
+     * @param index1 the first cell index
+     * @param index2 the second cell index
+     */
+    @Override
+    public void removeEdge(int index1, int index2) {
+        int dir = directionBetween(index1, index2);
+        if (dir == -1) {
+            return;
+        }
+        clearPassage(index1, dir);
+        passageChanged(rooms[index1], rooms[index2], false);
+    }
+
+    /**
+     * Returns the Connection stored for the passage between two adjacent cells.
+     *
+     * @param index1 the index of one room
+     * @param index2 the index of the other room
+     * @return the Connection between index1 and index2, or null if no passage exists
+     */
+    @Override
+    public Connection getConnection(int index1, int index2) {
+        int dir = directionBetween(index1, index2);
+        if (dir == -1) {
+            return null;
+        }
+        return passages[passageSlot(index1, dir)];
+    }
+
+    /**
+     * Returns the connections of the cell at an index by reading its wall mask.
+     *
+     * @param index the index of the source room
+     * @return an ArrayUnorderedList containing all Connections from this room
+     */
+    @Override
+    public ArrayUnorderedList<Connection> getConnections(int index) {
+        ArrayUnorderedList<Connection> connections = new ArrayUnorderedList<>(MAX_ROOM_CONNECTIONS);
+        if (indexIsValid(index)) {
+            int open = walls[index] & OPEN_MASK;
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) != 0) {
+                    connections.add(passages[passageSlot(index, d)]);
+                }
+            }
+        }
+        return connections;
+    }
+
+    /**
+     * Copies the connections of the cell at an index into a buffer by
+     * reading its wall mask, in the same order as getConnections(int).
+     *
+     * @param index the index of the source room
+     * @param buffer the array to fill with the connections
+     * @return the number of connections stored in the buffer, at most buffer.length
+     */
+    @Override
+    public int getConnections(int index, Connection[] buffer) {
+        int count = 0;
+        if (indexIsValid(index)) {
+            int open = walls[index] & OPEN_MASK;
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) != 0 && count < buffer.length) {
+                    buffer[count++] = passages[passageSlot(index, d)];
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Called by a stored Connection after its locked state changed. Mirrors the
+     * new state in the lock bits of both cells' wall masks and in the frozen
+     * snapshot, and notifies the topology listeners.
+     *
+     * @param connection the connection whose locked state changed
+     */
+    @Override
+    public void lockChanged(Connection connection) {
+        int index = getIndex(connection.getFrom());
+        int dir = directionBetween(index, getIndex(connection.getTo()));
+        if (dir != -1 && passages[passageSlot(index, dir)] == connection) {
+            setLockBit(index, dir, connection.isLocked());
+            setLockBit(neighbourIndex(index, dir), OPPOSITE[dir], connection.isLocked());
+            snapshotLockChanged(connection);
+            passageChanged(connection.getFrom(), connection.getTo(), !connection.isLocked());
+        }
+    }
+
+    /**
+     * Returns a breadth first traversal of the rooms reachable from the given
+     * cell through open passages, locked or not.
+     *
+     * @param startIndex the index to begin the search from
+     * @return an iterator that performs a breadth first traversal
+     */
+    @Override
+    public Iterator<Room> iteratorBFS(int startIndex) {
+        ArrayUnorderedList<Room> resultList = new ArrayUnorderedList<>();
+
+        if (!indexIsValid(startIndex)) {
+            return resultList.iterator();
+        }
+
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayQueue traversalQueue = ws.queue();
+        try {
+            traversalQueue.enqueueInt(startIndex);
+            ws.visit(startIndex);
+
+            while (!traversalQueue.isEmpty()) {
+                int x;
+                try {
+                    x = traversalQueue.dequeueInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                resultList.add(rooms[x]);
+
+                int open = walls[x] & OPEN_MASK;
+                for (int d = 0; d < 4; d++) {
+                    if ((open & (1 << d)) != 0) {
+                        int next = neighbourIndex(x, d);
+                        if (!ws.isVisited(next)) {
+                            traversalQueue.enqueueInt(next);
+                            ws.visit(next);
+                        }
+                    }
+                }
+            }
+        } finally {
+            releaseWorkspace(ws);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns a depth first traversal of the rooms reachable from the given
+     * cell through open passages, locked or not.
+     *
+     * @param startIndex the index to begin the search traversal from
+     * @return an iterator that performs a depth first traversal
+     */
+    @Override
+    public Iterator<Room> iteratorDFS(int startIndex) {
+        ArrayUnorderedList<Room> resultList = new ArrayUnorderedList<>();
+
+        if (!indexIsValid(startIndex)) {
+            return resultList.iterator();
+        }
+
+        TraversalWorkspace ws = acquireWorkspace();
+        IntArrayStack traversalStack = ws.stack();
+        try {
+            traversalStack.pushInt(startIndex);
+            resultList.add(rooms[startIndex]);
+            ws.visit(startIndex);
+
+            while (!traversalStack.isEmpty()) {
+                int x;
+                try {
+                    x = traversalStack.peekInt();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                int open = walls[x] & OPEN_MASK;
+                boolean found = false;
+
+                for (int d = 0; d < 4 && !found; d++) {
+                    if ((open & (1 << d)) != 0) {
+                        int next = neighbourIndex(x, d);
+                        if (!ws.isVisited(next)) {
+                            traversalStack.pushInt(next);
+                            resultList.add(rooms[next]);
+                            ws.visit(next);
+                            found = true;
+                        }
+                    }
+                }
+                if (!found) {
+                    try {
+                        traversalStack.popInt();
+                    } catch (EmptyCollectionException e) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            releaseWorkspace(ws);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns all rooms of this grid in index order.
+     *
+     * @return an ArrayUnorderedList containing all rooms in this graph
+     */
+    @Override
+    public ArrayUnorderedList<Room> getVertices() {
+        ArrayUnorderedList<Room> list = new ArrayUnorderedList<>(numVertices);
+        for (Room room : rooms) {
+            if (room != null) {
+                list.add(room);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns a string representation of the wall masks, one grid row per line.
+     * Each cell is printed as two hex digits: lock bits followed by open bits.
+     *
+     * @return a string representation of this grid graph
+     */
+    @Override
+    public String toString() {
+        if (numVertices == 0) {
+            return "Graph is empty";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Wall Masks ").append(width).append("x").append(height).append("\n");
+        sb.append("----------------\n");
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                sb.append(String.format("%02X ", walls[y * width + x] & 0xFF));
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The grid is allocated up front, so there is never anything to expand.
+     */
+    @Override
+    public void expandCapacity() {
+    }
+
+    /**
+     * Returns the cell index of a room, computed from its coordinates.
+     *
+     * @param vertex the room to look up
+     * @return the cell index if the room is stored in this grid, -1 otherwise
+     */
+    @Override
+    public int getIndex(Room vertex) {
+        if (vertex == null) {
+            return -1;
+        }
+        int index = cellIndex(vertex.getX(), vertex.getY());
+        if (index == -1 || rooms[index] == null) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the room stored in the cell at the given index.
+     *
+     * @param index the cell index
+     * @return the room in that cell, or null if the cell is empty or outside the grid
+     */
+    @Override
+    public Room getVertex(int index) {
+        if (!indexIsValid(index)) {
+            return null;
+        }
+        return rooms[index];
+    }
+
+    /**
+     * Returns the next open neighbour of a cell, in increasing index order, by
+     * reading the cell's wall mask.
+     *
+     * @param index the cell whose neighbours are enumerated
+     * @param previous the neighbour returned by the previous call, or -1 to start
+     * @return the index of the next neighbour, or -1 if there are no more
+     */
+    @Override
+    protected int nextNeighbour(int index, int previous) {
+        int open = walls[index];
+        for (int dir : INDEX_ORDER) {
+            if ((open & (1 << dir)) != 0) {
+                int next = neighbourIndex(index, dir);
+                if (next > previous) {
+                    return next;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the passage from one cell to an adjacent cell is locked,
+     * reading the lock bit of the source cell's wall mask.
+     *
+     * @param index1 the index of the source cell
+     * @param index2 the index of the destination cell
+     * @return true if the passage exists and is locked, false otherwise
+     */
+    @Override
+    protected boolean isLocked(int index1, int index2) {
+        int dir = directionOf(index2 - index1);
+        return dir != -1 && (walls[index1] & (1 << (dir + LOCK_SHIFT))) != 0;
+    }
+
+    /**
+     * Every cell of the grid has a fixed index, occupied or not.
+     *
+     * @return the number of cells of the grid
+     */
+    @Override
+    protected int indexBound() {
+        return rooms.length;
+    }
+
+    /**
+     * Returns true if the index refers to an occupied cell of this grid.
+     *
+     * @param index the index to validate
+     * @return true if a room is stored at that index, false otherwise
+     */
+    @Override
+    protected boolean indexIsValid(int index) {
+        return index >= 0 && index < rooms.length && rooms[index] != null;
+    }
+
+    // ----------------------------------------------------------------
+    // Wall Mask Helpers
+    // ----------------------------------------------------------------
+    /**
+     * Returns the cell index for the given coordinates.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the cell index, or -1 if the coordinates are outside the grid
+     */
+    private int cellIndex(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * width + x;
+    }
+
+    /**
+     * Returns the index of the neighbouring cell in the given direction.
+     * The caller must make sure the neighbour lies inside the grid.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     * @return the index of the neighbouring cell
+     */
+    private int neighbourIndex(int index, int dir) {
+        return index + DY[dir] * width + DX[dir];
+    }
+
+    /**
+     * Returns the direction leading from one cell to an orthogonally adjacent cell.
+     *
+     * @param index1 the source cell index
+     * @param index2 the destination cell index
+     * @return the direction index, or -1 if the cells are invalid or not adjacent
+     */
+    private int directionBetween(int index1, int index2) {
+        if (!indexIsValid(index1) || !indexIsValid(index2)) {
+            return -1;
+        }
+        int dx = (index2 % width) - (index1 % width);
+        int dy = (index2 / width) - (index1 / width);
+        for (int d = 0; d < 4; d++) {
+            if (DX[d] == dx && DY[d] == dy) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the direction matching the index difference between two adjacent cells.
+     *
+     * @param delta the destination index minus the source index
+     * @return the direction index, or -1 if the difference does not match a neighbour
+     */
+    private int directionOf(int delta) {
+        if (delta == -width) {
+            return UP;
+        }
+        if (delta == width) {
+            return DOWN;
+        }
+        if (delta == -1) {
+            return LEFT;
+        }
+        if (delta == 1) {
+            return RIGHT;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the cell has an open passage, locked or not, in the given direction.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     * @return true if the passage is open
+     */
+    private boolean hasPassage(int index, int dir) {
+        return (walls[index] & (1 << dir)) != 0;
+    }
+
+    /**
+     * Returns the slot of the passages array that holds the passage leaving a
+     * cell in the given direction. Up and left passages are stored with the
+     * neighbouring cell, which sees them as its down and right passages. The
+     * caller must make sure the neighbour lies inside the grid.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     * @return the slot of the passage
+     */
+    private int passageSlot(int index, int dir) {
+        switch (dir) {
+            case UP:
+                return (index - width) * 2;
+            case DOWN:
+                return index * 2;
+            case LEFT:
+                return (index - 1) * 2 + 1;
+            default:
+                return index * 2 + 1;
+        }
+    }
+
+    /**
+     * Stores the Connection of the passage leaving a cell in one direction and
+     * updates the mask bits of both cells it joins.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     * @param connection the connection of the passage
+     */
+    private void storePassage(int index, int dir, Connection connection) {
+        int slot = passageSlot(index, dir);
+        Connection old = passages[slot];
+        if (old != null && old != connection) {
+            old.setGraph(null);
+        }
+        passages[slot] = connection;
+        connection.setGraph(this);
+        int other = neighbourIndex(index, dir);
+        walls[index] |= (byte) (1 << dir);
+        walls[other] |= (byte) (1 << OPPOSITE[dir]);
+        setLockBit(index, dir, connection.isLocked());
+        setLockBit(other, OPPOSITE[dir], connection.isLocked());
+        structureChanged();
+    }
+
+    /**
+     * Removes the Connection of the passage leaving a cell in one direction and
+     * clears the mask bits of both cells it joined.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     */
+    private void clearPassage(int index, int dir) {
+        int slot = passageSlot(index, dir);
+        Connection old = passages[slot];
+        if (old != null) {
+            old.setGraph(null);
+        }
+        passages[slot] = null;
+        clearMask(index, dir);
+        clearMask(neighbourIndex(index, dir), OPPOSITE[dir]);
+        structureChanged();
+    }
+
+    /**
+     * Clears the open and lock bits of one direction of a cell.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     */
+    private void clearMask(int index, int dir) {
+        walls[index] &= (byte) ~((1 << dir) | (1 << (dir + LOCK_SHIFT)));
+        updatePassable(index, dir);
+    }
+
+    /**
+     * Sets or clears the lock bit of one direction of a cell.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     * @param locked true to mark the passage as locked
+     */
+    private void setLockBit(int index, int dir, boolean locked) {
+        if (locked) {
+            walls[index] |= (byte) (1 << (dir + LOCK_SHIFT));
+        } else {
+            walls[index] &= (byte) ~(1 << (dir + LOCK_SHIFT));
+        }
+        updatePassable(index, dir);
+    }
+
+    /**
+     * Mirrors the open and lock bits of one direction of a cell in the
+     * passability bitplane of that direction.
+     *
+     * @param index the cell index
+     * @param dir the direction index
+     */
+    private void updatePassable(int index, int dir) {
+        int mask = walls[index];
+        if ((mask & (1 << dir)) != 0 && (mask & (1 << (dir + LOCK_SHIFT))) == 0) {
+            passable[dir][index >>> 6] |= 1L << index;
+        } else {
+            passable[dir][index >>> 6] &= ~(1L << index);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package DataStructures.Graph;
+
+import Models.Connection;
+import Models.Room;
+
+/**
+ * GridGraphBuilder collects the rooms and passages of a rectangular maze and
+ * turns them into a GridGraph in one step. Rooms are placed in the cell given by
+ * their coordinates, and passages are kept two per cell (below and to the
+ * right), the same layout GridGraph uses, so asking whether two rooms already
+ * share a passage costs O(1) while a maze is being carved. Building writes the
+ * wall masks directly instead of going through addEdge, so none of the
+ * per-passage topology events fire and the version is bumped once.
+ */
+public class GridGraphBuilder {
+
+    private final int width;
+    private final int height;
+    private final Room[] rooms;
+    // Slot 2i holds the passage below cell i, slot 2i + 1 the passage to its right
+    private final Connection[] passages;
+    private int passageCount;
+    private boolean built;
+
+    /**
+     * Creates a builder for a width x height grid with no rooms or passages.
+     *
+     * @param width the number of columns of the grid
+     * @param height the number of rows of the grid
+     */
+    public GridGraphBuilder(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.rooms = new Room[width * height];
+        this.passages = new Connection[width * height * 2];
+    }
+
+    /**
+     * Places a room in the cell given by its coordinates, replacing any room
+     * placed there before. Rooms outside the grid are ignored.
+     *
+     * @param room the room to place
+     * @return this builder
+     */
+    public GridGraphBuilder setRoom(Room room) {
+        checkNotBuilt();
+        int index = cellIndex(room.getX(), room.getY());
+        if (index != -1) {
+            rooms[index] = room;
+        }
+        return this;
+    }
+
+    /**
+     * Places every room of a grid indexed as grid[x][y]. Null entries are skipped.
+     *
+     * @param grid the rooms to place
+     * @return this builder
+     */
+    public GridGraphBuilder setRooms(Room[][] grid) {
+        for (int x = 0; x < grid.length; x++) {
+            for (int y = 0; y < grid[x].length; y++) {
+                if (grid[x][y] != null) {
+                    setRoom(grid[x][y]);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the room placed at the given coordinates.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the room in that cell, or null if the cell is empty or outside the grid
+     */
+    public Room getRoom(int x, int y) {
+        int index = cellIndex(x, y);
+        return (index == -1) ? null : rooms[index];
+    }
+
+    /**
+     * Adds a passage between two orthogonally adjacent rooms. If the rooms
+     * already share a passage, its first connection is kept and only locked if
+     * the new one is locked, as with GameGraph.addEdge.
+     *
+     * @param passage the connection describing the passage
+     * @return true if the passage was added, false if it already existed or its rooms are not adjacent
+     */
+    public boolean addPassage(Connection passage) {
+        checkNotBuilt();
+        int slot = slotBetween(passage.getFrom(), passage.getTo());
+        if (slot == -1) {
+            return false;
+        }
+        Connection existing = passages[slot];
+        if (existing != null) {
+            if (passage.isLocked() && !existing.isLocked()) {
+                existing.setLocked(true);
+            }
+            return false;
+        }
+        passages[slot] = passage;
+        passageCount++;
+        return true;
+    }
+
+    /**
+     * Adds every passage of an array. See addPassage(Connection).
+     *
+     * @param passages the connections describing the passages
+     * @return this builder
+     */
+    public GridGraphBuilder addPassages(Connection[] passages) {
+        for (Connection passage : passages) {
+            addPassage(passage);
+        }
+        return this;
+    }
+
+    /**
+     * Returns true if two rooms already share a passage in this builder.
+     *
+     * @param room1 one room
+     * @param room2 the other room
+     * @return true if a passage between the rooms was added
+     */
+    public boolean hasPassage(Room room1, Room room2) {
+        int slot = slotBetween(room1, room2);
+        return slot != -1 && passages[slot] != null;
+    }
+
+    /**
+     * Returns the number of passages added so far.
+     *
+     * @return the number of passages
+     */
+    public int getPassageCount() {
+        return passageCount;
+    }
+
+    /**
+     * Builds the grid graph. Passages whose rooms are not the ones placed in
+     * their cells are skipped. A builder can only be built once, since the
+     * connections become part of the graph.
+     *
+     * @return a grid graph holding every room and passage added to this builder
+     * @throws IllegalStateException if this builder was already built
+     */
+    public GridGraph build() {
+        checkNotBuilt();
+        built = true;
+        GridGraph graph = new GridGraph(width, height);
+        for (Room room : rooms) {
+            if (room != null) {
+                graph.addVertex(room);
+            }
+        }
+        for (int slot = 0; slot < passages.length; slot++) {
+            Connection passage = passages[slot];
+            if (passage == null) {
+                continue;
+            }
+            int cell = slot >>> 1;
+            int other = ((slot & 1) == 0) ? cell + width : cell + 1;
+            if (passage.joins(rooms[cell], rooms[other])) {
+                graph.loadPassage(cell, other, passage);
+            }
+        }
+        graph.topologyChanged();
+        return graph;
+    }
+
+    /**
+     * Returns the slot of the passage between two orthogonally adjacent rooms.
+     *
+     * @param room1 one room
+     * @param room2 the other room
+     * @return the slot, or -1 if the rooms are outside the grid or not adjacent
+     */
+    private int slotBetween(Room room1, Room room2) {
+        int index1 = cellIndex(room1.getX(), room1.getY());
+        int index2 = cellIndex(room2.getX(), room2.getY());
+        if (index1 == -1 || index2 == -1) {
+            return -1;
+        }
+        int low = Math.min(index1, index2);
+        int high = Math.max(index1, index2);
+        if (high - low == width) {
+            return low * 2;
+        }
+        if (high - low == 1 && high % width != 0) {
+            return low * 2 + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the cell index of the given coordinates.
+     *
+     * @param x the column
+     * @param y the row
+     * @return y * width + x, or -1 if the coordinates are outside the grid
+     */
+    private int cellIndex(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * width + x;
+    }
+
+    /**
+     * Throws if this builder was already turned into a graph.
+     *
+     * @throws IllegalStateException if build() was already called
+     */
+    private void checkNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("Grafo já construído.");
+        }
+    }
+}
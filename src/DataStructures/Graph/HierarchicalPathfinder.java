@@ -0,0 +1,580 @@
+package DataStructures.Graph;
+
+import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Iterator;
+import DataStructures.PriorityQueue.IndexedMinPriorityQueue;
+import Models.Room;
+import java.util.Arrays;
+
+/**
+ * HierarchicalPathfinder answers shortest path queries on a large GridGraph
+ * with HPA*. The grid is cut into square clusters. A portal is a cell with a
+ * passage to a cell of another cluster. For every cluster, the distances
+ * between its portals inside the cluster are computed in advance.
+ *
+ * A query first runs two small breadth-first searches inside the clusters of
+ * the start and the target, to reach their portals. It then runs A* on the
+ * abstract graph of portals, whose edges are the precomputed in-cluster
+ * distances and the one-step passages between clusters. Every passage leaving
+ * a cluster is a node of the abstract graph, so the abstract distance equals
+ * the true shortest distance on the grid. The path is refined lazily: each
+ * abstract hop is expanded into rooms by a search confined to one cluster only
+ * when the iterator reaches it. A bot that takes one step and then replans
+ * therefore refines a single segment.
+ *
+ * The pathfinder listens to its grid. A passage added, removed, locked or
+ * unlocked marks only the one or two clusters it touches as stale, and those
+ * are recomputed before the next query. Queries on any other graph, or on a
+ * snapshot that no longer matches the grid, are answered by A*.
+ */
+public class HierarchicalPathfinder implements PathfindingStrategy, TopologyListener {
+
+    private static final int[] NONE = new int[0];
+
+    private final GridGraph grid;
+    private final int width;
+    private final int clusterSize;
+    private final int clustersX;
+    // Per cluster: its portal cells in increasing index order, and the k x k
+    // table of in-cluster distances between them (-1 if unreachable)
+    private final int[][] portals;
+    private final int[][] distances;
+    // Position of each cell in its cluster's portal list, or -1
+    private final int[] portalSlot;
+    private final boolean[] stale;
+    private final int[] staleClusters;
+    private int staleCount;
+    private final PathfindingStrategy fallback = new AStarPathfinder();
+    private final ThreadLocal<ClusterSearch> searches;
+
+    /**
+     * Creates a hierarchical pathfinder for a grid, computes the portals and
+     * portal distances of every cluster, and registers itself as a topology
+     * listener of the grid.
+     *
+     * @param grid the grid to search
+     * @param clusterSize the side of a square cluster, in rooms
+     * @throws IllegalArgumentException if the cluster size is smaller than 1
+     */
+    public HierarchicalPathfinder(GridGraph grid, int clusterSize) {
+        if (clusterSize < 1) {
+            throw new IllegalArgumentException("Tamanho de cluster inválido.");
+        }
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.clusterSize = clusterSize;
+        this.clustersX = (width + clusterSize - 1) / clusterSize;
+        int clustersY = (grid.getHeight() + clusterSize - 1) / clusterSize;
+        int clusterCount = clustersX * clustersY;
+
+        this.portals = new int[clusterCount][];
+        this.distances = new int[clusterCount][];
+        this.portalSlot = new int[width * grid.getHeight()];
+        Arrays.fill(portalSlot, -1);
+        this.stale = new boolean[clusterCount];
+        this.staleClusters = new int[clusterCount];
+        this.searches = ThreadLocal.withInitial(ClusterSearch::new);
+
+        for (int c = 0; c < clusterCount; c++) {
+            portals[c] = NONE;
+            distances[c] = NONE;
+            markStale(c);
+        }
+        refreshClusters();
+        grid.addTopologyListener(this);
+    }
+
+    /**
+     * Returns the shortest path between two rooms, skipping locked passages.
+     * The rooms of each abstract hop are computed only when the iterator gets to
+     * them, on the map as it is at that moment. If a hop has been blocked in the
+     * meantime, the iterator ends there.
+     *
+     * @param graph the graph to search
+     * @param startIndex the index of the starting room
+     * @param targetIndex the index of the destination room
+     * @return an iterator over the rooms of the path from start to target,
+     * or an empty iterator if no path exists
+     */
+    @Override
+    public Iterator<Room> shortestPath(IndexedGraph<Room> graph, int startIndex, int targetIndex) {
+        if (graph != grid && !(graph instanceof FrozenGameGraph
+                && grid.isCurrentSnapshot((FrozenGameGraph) graph))) {
+            return fallback.shortestPath(graph, startIndex, targetIndex);
+        }
+
+        int[] waypoints;
+        synchronized (this) {
+            refreshClusters();
+            waypoints = abstractPath(graph, startIndex, targetIndex);
+        }
+        if (waypoints == null) {
+            return new ArrayUnorderedList<Room>(0).iterator();
+        }
+        return new RefiningPath(waypoints);
+    }
+
+    /**
+     * Marks the clusters of both rooms of a changed passage as stale.
+     *
+     * @param from the source room of the changed connection
+     * @param to the destination room of the changed connection
+     * @param traversable true if the connection now exists and is unlocked
+     */
+    @Override
+    public synchronized void edgeChanged(Room from, Room to, boolean traversable) {
+        int index1 = grid.getIndex(from);
+        int index2 = grid.getIndex(to);
+        if (index1 != -1) {
+            markStale(clusterOf(index1));
+        }
+        if (index2 != -1) {
+            markStale(clusterOf(index2));
+        }
+    }
+
+    /**
+     * Returns the number of portals over all clusters, the nodes of the
+     * abstract graph.
+     *
+     * @return the number of portals
+     */
+    public synchronized int getPortalCount() {
+        refreshClusters();
+        int count = 0;
+        for (int[] list : portals) {
+            count += list.length;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the side of a cluster.
+     *
+     * @return the cluster size, in rooms
+     */
+    public int getClusterSize() {
+        return clusterSize;
+    }
+
+    // ----------------------------------------------------------------
+    // Abstract Search
+    // ----------------------------------------------------------------
+    /**
+     * Runs A* over the portals from the start to the target and returns the
+     * abstract path: the start, the portals it passes through and the target.
+     *
+     * @param graph the graph whose search counters are updated
+     * @param start the start cell
+     * @param target the target cell
+     * @return the abstract path, or null if the target cannot be reached
+     */
+    private int[] abstractPath(IndexedGraph<Room> graph, int start, int target) {
+        if (start == target) {
+            return new int[]{start};
+        }
+        int startCluster = clusterOf(start);
+        int targetCluster = clusterOf(target);
+        ClusterSearch search = searches.get();
+
+        // Connect the start and the target to the portals of their clusters
+        search.run(startCluster, start, -1);
+        int[] startPortals = portals[startCluster];
+        int[] startCost = new int[startPortals.length];
+        for (int i = 0; i < startPortals.length; i++) {
+            startCost[i] = search.distanceTo(startPortals[i]);
+        }
+        int direct = (startCluster == targetCluster) ? search.distanceTo(target) : -1;
+
+        search.run(targetCluster, target, -1);
+        int[] targetPortals = portals[targetCluster];
+        int[] targetCost = new int[targetPortals.length];
+        for (int i = 0; i < targetPortals.length; i++) {
+            targetCost[i] = search.distanceTo(targetPortals[i]);
+        }
+
+        TraversalWorkspace ws = grid.acquireWorkspace();
+        IndexedMinPriorityQueue open = ws.heap();
+        double tieScale = portalSlot.length + 1.0;
+        int expanded = 0;
+
+        try {
+            ws.reach(start, -1, 0);
+            open.insert(start, heuristic(start, target));
+
+            while (!open.isEmpty()) {
+                int u;
+                try {
+                    u = open.deleteMin();
+                } catch (EmptyCollectionException e) {
+                    break;
+                }
+                if (u == target) {
+                    break;
+                }
+                ws.visit(u);
+                expanded++;
+
+                int cluster = clusterOf(u);
+                int slot = portalSlot[u];
+                if (u == start) {
+                    for (int i = 0; i < startPortals.length; i++) {
+                        relax(ws, open, u, startPortals[i], startCost[i], target, tieScale);
+                    }
+                    relax(ws, open, u, target, direct, target, tieScale);
+                } else {
+                    // Every other node the search expands is a portal
+                    int[] list = portals[cluster];
+                    int[] table = distances[cluster];
+                    int k = list.length;
+                    for (int j = 0; j < k; j++) {
+                        relax(ws, open, u, list[j], table[slot * k + j], target, tieScale);
+                    }
+                    if (cluster == targetCluster) {
+                        relax(ws, open, u, target, targetCost[slot], target, tieScale);
+                    }
+                }
+
+                // Passages leaving the cluster cost one step
+                if (slot != -1) {
+                    for (int v = grid.nextNeighbour(u, -1); v != -1; v = grid.nextNeighbour(u, v)) {
+                        if (clusterOf(v) != cluster && !grid.isLocked(u, v)) {
+                            relax(ws, open, u, v, 1, target, tieScale);
+                        }
+                    }
+                }
+            }
+
+            graph.recordSearch(expanded);
+            if (!ws.isReached(target)) {
+                return null;
+            }
+
+            int count = 0;
+            for (int curr = target; curr != -1; curr = ws.parentOf(curr)) {
+                count++;
+            }
+            int[] waypoints = new int[count];
+            for (int curr = target; curr != -1; curr = ws.parentOf(curr)) {
+                waypoints[--count] = curr;
+            }
+            return waypoints;
+        } finally {
+            grid.releaseWorkspace(ws);
+        }
+    }
+
+    /**
+     * Offers a shorter distance to an abstract node through an abstract edge.
+     *
+     * @param ws the workspace of the abstract search
+     * @param open the open set of the abstract search
+     * @param u the node being expanded
+     * @param v the node at the other end of the edge
+     * @param cost the length of the edge, or a negative value if it does not exist
+     * @param target the target cell, for the heuristic
+     * @param tieScale the divisor that keeps the tie-breaking term below one
+     */
+    private void relax(TraversalWorkspace ws, IndexedMinPriorityQueue open,
+            int u, int v, int cost, int target, double tieScale) {
+        if (cost <= 0 || ws.isVisited(v)) {
+            return;
+        }
+        double alt = ws.distanceOf(u) + cost;
+        if (alt < ws.distanceOf(v)) {
+            ws.reach(v, u, alt);
+            int h = heuristic(v, target);
+            double priority = alt + h + h / tieScale;
+            if (open.contains(v)) {
+                open.decreaseKey(v, priority);
+            } else {
+                open.insert(v, priority);
+            }
+        }
+    }
+
+    /**
+     * Returns the Manhattan distance between two cells, a lower bound on every
+     * abstract edge and therefore on the remaining distance.
+     *
+     * @param cell1 the first cell
+     * @param cell2 the second cell
+     * @return the Manhattan distance between the cells
+     */
+    private int heuristic(int cell1, int cell2) {
+        return Math.abs(cell1 % width - cell2 % width) + Math.abs(cell1 / width - cell2 / width);
+    }
+
+    // ----------------------------------------------------------------
+    // Clusters
+    // ----------------------------------------------------------------
+    /**
+     * Returns the cluster that holds a cell.
+     *
+     * @param cell the cell index
+     * @return the cluster index
+     */
+    private int clusterOf(int cell) {
+        return (cell / width / clusterSize) * clustersX + (cell % width) / clusterSize;
+    }
+
+    /**
+     * Queues a cluster to be recomputed before the next query.
+     *
+     * @param cluster the cluster index
+     */
+    private void markStale(int cluster) {
+        if (!stale[cluster]) {
+            stale[cluster] = true;
+            staleClusters[staleCount++] = cluster;
+        }
+    }
+
+    /**
+     * Recomputes every stale cluster.
+     */
+    private void refreshClusters() {
+        while (staleCount > 0) {
+            int cluster = staleClusters[--staleCount];
+            stale[cluster] = false;
+            rebuildCluster(cluster);
+        }
+    }
+
+    /**
+     * Finds the portals of a cluster on its border and fills its distance table
+     * with one breadth-first search per portal, confined to the cluster.
+     *
+     * @param cluster the cluster index
+     */
+    private void rebuildCluster(int cluster) {
+        for (int cell : portals[cluster]) {
+            portalSlot[cell] = -1;
+        }
+
+        int x0 = (cluster % clustersX) * clusterSize;
+        int y0 = (cluster / clustersX) * clusterSize;
+        int x1 = Math.min(x0 + clusterSize, width);
+        int y1 = Math.min(y0 + clusterSize, grid.getHeight());
+        int[] found = new int[4 * clusterSize];
+        int k = 0;
+        for (int y = y0; y < y1; y++) {
+            // Inner rows only have border cells in the first and last column
+            int step = (y == y0 || y == y1 - 1) ? 1 : Math.max(1, x1 - x0 - 1);
+            for (int x = x0; x < x1; x += step) {
+                int cell = y * width + x;
+                if (!grid.indexIsValid(cell)) {
+                    continue;
+                }
+                for (int v = grid.nextNeighbour(cell, -1); v != -1; v = grid.nextNeighbour(cell, v)) {
+                    if (clusterOf(v) != cluster) {
+                        found[k++] = cell;
+                        break;
+                    }
+                }
+            }
+        }
+
+        int[] list = Arrays.copyOf(found, k);
+        int[] table = new int[k * k];
+        ClusterSearch search = searches.get();
+        for (int i = 0; i < k; i++) {
+            portalSlot[list[i]] = i;
+            search.run(cluster, list[i], -1);
+            for (int j = 0; j < k; j++) {
+                table[i * k + j] = search.distanceTo(list[j]);
+            }
+        }
+        portals[cluster] = list;
+        distances[cluster] = table;
+    }
+
+    /**
+     * ClusterSearch is a breadth-first search confined to one cluster, over
+     * unlocked passages, with scratch arrays sized for a single cluster and
+     * reused through generation stamps. Each thread has its own.
+     */
+    private final class ClusterSearch {
+
+        private final int[] stamp = new int[clusterSize * clusterSize];
+        private final int[] distance = new int[clusterSize * clusterSize];
+        private final int[] parent = new int[clusterSize * clusterSize];
+        private final int[] queue = new int[clusterSize * clusterSize];
+        private int epoch;
+        private int cluster;
+        private int x0;
+        private int y0;
+
+        /**
+         * Searches a cluster from one of its cells, stopping early once the goal
+         * cell is reached.
+         *
+         * @param cluster the cluster to search
+         * @param from the start cell, inside the cluster
+         * @param goal the cell to stop at, or -1 to search the whole cluster
+         */
+        void run(int cluster, int from, int goal) {
+            this.cluster = cluster;
+            this.x0 = (cluster % clustersX) * clusterSize;
+            this.y0 = (cluster / clustersX) * clusterSize;
+            epoch++;
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                epoch = 1;
+            }
+
+            int head = 0;
+            int tail = 0;
+            int start = local(from);
+            stamp[start] = epoch;
+            distance[start] = 0;
+            parent[start] = -1;
+            queue[tail++] = from;
+
+            while (head < tail) {
+                int u = queue[head++];
+                if (u == goal) {
+                    return;
+                }
+                int next = distance[local(u)] + 1;
+                for (int v = grid.nextNeighbour(u, -1); v != -1; v = grid.nextNeighbour(u, v)) {
+                    if (clusterOf(v) != cluster || grid.isLocked(u, v)) {
+                        continue;
+                    }
+                    int lv = local(v);
+                    if (stamp[lv] != epoch) {
+                        stamp[lv] = epoch;
+                        distance[lv] = next;
+                        parent[lv] = u;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the distance of a cell found by the last search.
+         *
+         * @param cell the cell index
+         * @return the distance, or -1 if the cell was not reached
+         */
+        int distanceTo(int cell) {
+            if (clusterOf(cell) != cluster) {
+                return -1;
+            }
+            int l = local(cell);
+            return (stamp[l] == epoch) ? distance[l] : -1;
+        }
+
+        /**
+         * Writes the cells of the path found by the last search to a cell,
+         * without its start cell, in walking order.
+         *
+         * @param cell the cell the path leads to
+         * @param out the array receiving the cells
+         * @return the number of cells written, or -1 if the cell was not reached
+         */
+        int pathTo(int cell, int[] out) {
+            int length = distanceTo(cell);
+            for (int curr = cell, i = length - 1; i >= 0; i--) {
+                out[i] = curr;
+                curr = parent[local(curr)];
+            }
+            return length;
+        }
+
+        /**
+         * Returns the position of a cell inside the current cluster.
+         *
+         * @param cell the cell index
+         * @return the local index of the cell
+         */
+        private int local(int cell) {
+            return (cell / width - y0) * clusterSize + (cell % width - x0);
+        }
+    }
+
+    /**
+     * RefiningPath walks an abstract path room by room, turning each abstract
+     * hop into rooms only when the previous hop has been fully returned.
+     */
+    private final class RefiningPath implements Iterator<Room> {
+
+        private final int[] waypoints;
+        private final int[] segment = new int[clusterSize * clusterSize];
+        private int nextWaypoint = 1;
+        private int position;
+        private int length;
+
+        /**
+         * Creates the iterator, whose first room is the start of the path.
+         *
+         * @param waypoints the abstract path, from the start to the target
+         */
+        RefiningPath(int[] waypoints) {
+            this.waypoints = waypoints;
+            this.segment[0] = waypoints[0];
+            this.length = 1;
+        }
+
+        /**
+         * Returns true if the path has more rooms, refining the next hop if the
+         * current one is used up.
+         *
+         * @return true if there is another room
+         */
+        @Override
+        public boolean hasNext() {
+            if (position < length) {
+                return true;
+            }
+            if (nextWaypoint < waypoints.length) {
+                refine(waypoints[nextWaypoint - 1], waypoints[nextWaypoint]);
+                nextWaypoint++;
+            }
+            return position < length;
+        }
+
+        /**
+         * Returns the next room of the path.
+         *
+         * @return the next room
+         * @throws NoSuchElementException if the path has no more rooms
+         */
+        @Override
+        public Room next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return grid.getVertex(segment[position++]);
+        }
+
+        /**
+         * Turns one abstract hop into the rooms after its first cell. A hop that
+         * can no longer be walked ends the path.
+         *
+         * @param from the cell the hop starts at
+         * @param to the cell the hop ends at
+         */
+        private void refine(int from, int to) {
+            position = 0;
+            length = 0;
+            int cluster = clusterOf(from);
+            if (cluster != clusterOf(to)) {
+                if (grid.getConnection(from, to) != null && !grid.isLocked(from, to)) {
+                    segment[0] = to;
+                    length = 1;
+                }
+            } else {
+                ClusterSearch search = searches.get();
+                search.run(cluster, from, to);
+                length = Math.max(0, search.pathTo(to, segment));
+            }
+            if (length == 0) {
+                nextWaypoint = waypoints.length;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package DataStructures.Graph;
+
+import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.ArrayList.CircularArrayList;
+import DataStructures.Iterator;
+
+/**
+ * IndexedGraph is the read side shared by every graph representation of this
+ * package: vertices live at integer indices, searches enumerate neighbours
+ * through nextNeighbour and skip locked passages through isLocked, and their
+ * scratch state comes from a per-thread TraversalWorkspace. Pathfinding
+ * strategies only need this much, so they search the mutable graphs and their
+ * frozen snapshots alike. It holds no vertices or edges itself.
+ *
+ * @param <T> the type of the vertices
+ */
+public abstract class IndexedGraph<T> {
+
+    private static final int INITIAL_WORKSPACE_CAPACITY = 10;
+
+    /**
+     * Scratch arrays for traversals, one workspace per thread so that concurrent
+     * searches on the same graph never share marks.
+     */
+    private final ThreadLocal<TraversalWorkspace> workspaces =
+            ThreadLocal.withInitial(() -> new TraversalWorkspace(INITIAL_WORKSPACE_CAPACITY));
+
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param vertex the vertex to search for
+     * @return the index of the vertex if found, -1 if not found
+     */
+    public abstract int getIndex(T vertex);
+
+    /**
+     * Returns the vertex stored at the given index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index, or null if the index is not valid
+     */
+    public abstract T getVertex(int index);
+
+    /**
+     * Returns one more than the largest index a vertex can currently occupy.
+     * Per-vertex arrays used by traversals are sized with this bound.
+     *
+     * @return the upper bound (exclusive) of the vertex indices
+     */
+    protected abstract int indexBound();
+
+    /**
+     * Returns true if the specified index holds a vertex of this graph.
+     *
+     * @param index the index to validate
+     * @return true if a vertex is stored at the index, false otherwise
+     */
+    protected abstract boolean indexIsValid(int index);
+
+    /**
+     * Returns the next vertex adjacent to the given one, in increasing index order.
+     * Traversals enumerate neighbours with
+     * {@code for (v = nextNeighbour(u, -1); v != -1; v = nextNeighbour(u, v))}.
+     *
+     * @param index the vertex whose neighbours are enumerated
+     * @param previous the neighbour returned by the previous call, or -1 to start
+     * @return the index of the next neighbour, or -1 if there are no more
+     */
+    protected abstract int nextNeighbour(int index, int previous);
+
+    /**
+     * Returns true if the edge leading from one vertex to an adjacent one is
+     * locked and cannot be traversed. Plain graphs have no locks.
+     *
+     * @param index1 the index of the source vertex
+     * @param index2 the index of the destination vertex
+     * @return true if the edge exists and is locked, false otherwise
+     */
+    protected boolean isLocked(int index1, int index2) {
+        return false;
+    }
+
+    /**
+     * Records the number of vertices a path query expanded. Graphs that keep
+     * search counters override this; by default nothing is recorded.
+     *
+     * @param expanded the number of vertices expanded by the query
+     */
+    void recordSearch(int expanded) {
+    }
+
+    /**
+     * Returns the calling thread's traversal workspace, reset for a new search.
+     * The workspace grows to cover every current vertex index, so it keeps up
+     * with a growing graph without being told. If the workspace is already taken
+     * by an enclosing search on the same thread, a temporary one is returned
+     * instead. Every call must be paired with releaseWorkspace, once the search
+     * no longer needs the workspace.
+     *
+     * @return a workspace ready for a new search
+     */
+    TraversalWorkspace acquireWorkspace() {
+        TraversalWorkspace ws = workspaces.get();
+        if (ws.isInUse()) {
+            ws = new TraversalWorkspace(indexBound());
+        }
+        ws.begin(indexBound());
+        ws.setInUse(true);
+        return ws;
+    }
+
+    /**
+     * Hands a workspace obtained from acquireWorkspace back for reuse.
+     *
+     * @param ws the workspace to release
+     */
+    void releaseWorkspace(TraversalWorkspace ws) {
+        ws.setInUse(false);
+    }
+
+    /**
+     * Builds the path to a target from the parents recorded in a workspace.
+     *
+     * @param ws the workspace of the finished search, the start having parent -1
+     * @param targetIndex the index of the destination vertex
+     * @return an iterator over the vertices of the path,
+     * or an empty iterator if the target was not reached
+     */
+    Iterator<T> buildPath(TraversalWorkspace ws, int targetIndex) {
+        int curr = targetIndex;
+        if (!ws.isReached(curr)) {
+            return new ArrayUnorderedList<T>(0).iterator();
+        }
+
+        // Every edge costs one, so the distance of the target sizes the path exactly.
+        // Vertices are found from the target backwards, so each one is prepended, which
+        // the circular buffer does in constant time.
+        CircularArrayList<T> path = new CircularArrayList<>((int) ws.distanceOf(curr) + 1);
+
+        // Backtrack from target to start using predecessor links
+        while (curr != -1) {
+            path.addToFront(getVertex(curr));
+            curr = ws.parentOf(curr);
+        }
+        return path.iterator();
+    }
+}
@@ -0,0 +1,55 @@
+package DataStructures.Graph;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Queue.IntArrayQueue;
+
+/**
+ * LazyBFSIterator walks a graph breadth first, one vertex per call to next().
+ * Neighbours are discovered when their predecessor is returned, so the queue
+ * only ever holds the current frontier.
+ *
+ * @param <T> the type of the vertices of the graph
+ */
+class LazyBFSIterator<T> extends LazyTraversalIterator<T> {
+
+    private final IntArrayQueue frontier;
+
+    /**
+     * Creates a breadth first traversal starting at the given vertex index.
+     * An invalid index yields an empty traversal.
+     *
+     * @param graph the graph to traverse
+     * @param startIndex the index of the starting vertex
+     */
+    LazyBFSIterator(Graph<T> graph, int startIndex) {
+        super(graph);
+        this.frontier = new IntArrayQueue();
+        if (graph.indexIsValid(startIndex)) {
+            visit(startIndex);
+            pending = startIndex;
+        }
+    }
+
+    /**
+     * Schedules the unvisited neighbours of the vertex just returned, then takes
+     * the next vertex from the front of the queue.
+     *
+     * @return the index of the next vertex, or -1 if the traversal is complete
+     */
+    @Override
+    protected int advance() {
+        int x = pending;
+        for (int v = graph.nextNeighbour(x, -1); v != -1; v = graph.nextNeighbour(x, v)) {
+            if (!isVisited(v)) {
+                visit(v);
+                frontier.enqueueInt(v);
+            }
+        }
+        try {
+            return frontier.dequeueInt();
+        } catch (EmptyCollectionException e) {
+            // Queue empty: the traversal is complete
+            return -1;
+        }
+    }
+}
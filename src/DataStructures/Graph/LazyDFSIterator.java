@@ -0,0 +1,70 @@
+package DataStructures.Graph;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Stack.IntArrayStack;
+
+/**
+ * LazyDFSIterator walks a graph depth first, one vertex per call to next(),
+ * trying neighbours in increasing index order like the eager traversal of
+ * Graph. Next to each vertex on the path it keeps the last neighbour already
+ * tried, so resuming a vertex continues its neighbour scan instead of starting
+ * it over.
+ *
+ * @param <T> the type of the vertices of the graph
+ */
+class LazyDFSIterator<T> extends LazyTraversalIterator<T> {
+
+    private final IntArrayStack path;
+    private final IntArrayStack tried;
+
+    /**
+     * Creates a depth first traversal starting at the given vertex index.
+     * An invalid index yields an empty traversal.
+     *
+     * @param graph the graph to traverse
+     * @param startIndex the index of the starting vertex
+     */
+    LazyDFSIterator(Graph<T> graph, int startIndex) {
+        super(graph);
+        this.path = new IntArrayStack();
+        this.tried = new IntArrayStack();
+        if (graph.indexIsValid(startIndex)) {
+            visit(startIndex);
+            path.pushInt(startIndex);
+            tried.pushInt(-1);
+            pending = startIndex;
+        }
+    }
+
+    /**
+     * Descends into the first untried, unvisited neighbour of the deepest vertex
+     * on the path, backtracking while the deepest vertex has none left.
+     *
+     * @return the index of the next vertex, or -1 if the traversal is complete
+     */
+    @Override
+    protected int advance() {
+        try {
+            while (!path.isEmpty()) {
+                int x = path.peekInt();
+                int v = graph.nextNeighbour(x, tried.popInt());
+                while (v != -1 && isVisited(v)) {
+                    v = graph.nextNeighbour(x, v);
+                }
+                if (v == -1) {
+                    // No neighbour left: backtrack
+                    path.popInt();
+                } else {
+                    tried.pushInt(v);
+                    visit(v);
+                    path.pushInt(v);
+                    tried.pushInt(-1);
+                    return v;
+                }
+            }
+        } catch (EmptyCollectionException e) {
+            // Should not happen
+        }
+        return -1;
+    }
+}
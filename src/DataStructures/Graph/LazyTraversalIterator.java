@@ -0,0 +1,89 @@
+package DataStructures.Graph;
+
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Iterator;
+
+/**
+ * LazyTraversalIterator is the common base of the lazy graph traversals. Instead
+ * of completing the traversal up front, it computes one vertex ahead: next()
+ * returns the pending vertex and then advances the traversal just far enough to
+ * find the following one. Callers that stop early only pay for what they read.
+ * Visited vertices are kept in a bitset, one bit per vertex index.
+ * The traversal reads the graph as it is at each step, so the graph should not
+ * be modified while the iterator is in use.
+ *
+ * @param <T> the type of the vertices of the graph
+ */
+abstract class LazyTraversalIterator<T> implements Iterator<T> {
+
+    protected final Graph<T> graph;
+    private final long[] visited;
+
+    /**
+     * index of the vertex next() will return, or -1 once the traversal is done
+     */
+    protected int pending;
+
+    /**
+     * Creates a traversal of the given graph with no vertex pending yet.
+     *
+     * @param graph the graph to traverse
+     */
+    protected LazyTraversalIterator(Graph<T> graph) {
+        this.graph = graph;
+        this.visited = new long[(graph.indexBound() + 63) >>> 6];
+        this.pending = -1;
+    }
+
+    /**
+     * Returns true if the traversal has more vertices.
+     *
+     * @return true if next() would return a vertex
+     */
+    @Override
+    public boolean hasNext() {
+        return pending != -1;
+    }
+
+    /**
+     * Returns the next vertex of the traversal and advances it to the one after.
+     *
+     * @return the next vertex in traversal order
+     * @throws NoSuchElementException if the traversal is complete
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = graph.getVertex(pending);
+        pending = advance();
+        return result;
+    }
+
+    /**
+     * Moves the traversal forward to the next unvisited vertex and marks it.
+     *
+     * @return the index of the next vertex, or -1 if the traversal is complete
+     */
+    protected abstract int advance();
+
+    /**
+     * Returns true if the vertex at an index was already produced or scheduled.
+     *
+     * @param index the vertex index
+     * @return true if the vertex is visited
+     */
+    protected boolean isVisited(int index) {
+        return (visited[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks the vertex at an index as visited.
+     *
+     * @param index the vertex index
+     */
+    protected void visit(int index) {
+        visited[index >>> 6] |= 1L << index;
+    }
+}
@@ -0,0 +1,25 @@
+package DataStructures.Graph;
+
+import DataStructures.Iterator;
+import Models.Room;
+
+/**
+ * PathfindingStrategy is the algorithm a GameGraph, or a frozen snapshot of it,
+ * uses to answer shortest path queries. Implementations must skip locked
+ * connections and report how many rooms they expanded through the graph's
+ * search counters.
+ */
+public interface PathfindingStrategy {
+
+    /**
+     * Returns the shortest path between two rooms of the graph, skipping locked
+     * connections. Both indices are valid rooms of the graph.
+     *
+     * @param graph the graph to search
+     * @param startIndex the index of the starting room
+     * @param targetIndex the index of the destination room
+     * @return an iterator over the rooms of the path from start to target,
+     * or an empty iterator if no path exists
+     */
+    public Iterator<Room> shortestPath(IndexedGraph<Room> graph, int startIndex, int targetIndex);
+}
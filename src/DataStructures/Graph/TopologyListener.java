@@ -0,0 +1,24 @@
+package DataStructures.Graph;
+
+import Models.Room;
+
+/**
+ * TopologyListener is notified by a GameGraph whenever one direction of a passage
+ * becomes traversable or stops being traversable: a passage is added or removed,
+ * or the lock of its Connection changes. Since the lock is shared, a change to a
+ * passage is reported once for each of its two directions. Listeners can use
+ * this to keep results derived from the graph up to date instead of
+ * recomputing them.
+ */
+public interface TopologyListener {
+
+    /**
+     * Called after the connection leading from one room to an adjacent room
+     * changed. The graph is already in its new state when this is called.
+     *
+     * @param from the source room of the changed connection
+     * @param to the destination room of the changed connection
+     * @param traversable true if the connection now exists and is unlocked
+     */
+    public void edgeChanged(Room from, Room to, boolean traversable);
+}
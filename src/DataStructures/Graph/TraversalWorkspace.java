@@ -0,0 +1,189 @@
+package DataStructures.Graph;
+
+import DataStructures.PriorityQueue.IndexedMinPriorityQueue;
+import DataStructures.Queue.IntArrayQueue;
+import DataStructures.Stack.IntArrayStack;
+import java.util.Arrays;
+
+/**
+ * TraversalWorkspace holds the per-vertex scratch arrays of a graph search
+ * (visited marks, parents, distances) together with a queue, a stack and an
+ * indexed heap, so that repeated searches reuse them instead of allocating new
+ * arrays every time. Marks are int generation stamps: a vertex counts as
+ * visited or reached only if its stamp equals the current epoch, so starting a
+ * new search just increments the epoch instead of clearing the arrays.
+ * The arrays grow on demand when the graph has expanded since the last search.
+ * Each graph keeps one workspace per thread, see IndexedGraph.acquireWorkspace.
+ */
+class TraversalWorkspace {
+
+    private int[] visitedStamp;
+    private int[] reachedStamp;
+    private int[] parent;
+    private double[] distance;
+    private int epoch;
+    private boolean inUse;
+
+    private final IntArrayQueue queue;
+    private final IntArrayStack stack;
+    private final IndexedMinPriorityQueue heap;
+
+    /**
+     * Creates a workspace for graphs with up to the given number of vertex indices.
+     *
+     * @param capacity the initial number of vertex indices
+     */
+    TraversalWorkspace(int capacity) {
+        this.visitedStamp = new int[capacity];
+        this.reachedStamp = new int[capacity];
+        this.parent = new int[capacity];
+        this.distance = new double[capacity];
+        this.epoch = 0;
+        this.queue = new IntArrayQueue();
+        this.stack = new IntArrayStack();
+        this.heap = new IndexedMinPriorityQueue(capacity);
+    }
+
+    /**
+     * Starts a new search over indices 0 to bound - 1. Every vertex becomes
+     * unvisited and unreached, and the queue, stack and heap are emptied.
+     *
+     * @param bound the number of vertex indices the search may touch
+     */
+    void begin(int bound) {
+        if (bound > visitedStamp.length) {
+            expandCapacity(bound);
+        }
+        epoch++;
+        if (epoch == Integer.MAX_VALUE) {
+            // Wrap around: wipe the stamps once so old marks cannot match again
+            Arrays.fill(visitedStamp, 0);
+            Arrays.fill(reachedStamp, 0);
+            epoch = 1;
+        }
+        queue.clear();
+        stack.clear();
+        heap.clear();
+    }
+
+    /**
+     * Returns true if the vertex was marked visited during the current search.
+     *
+     * @param index the vertex index
+     * @return true if the vertex is visited
+     */
+    boolean isVisited(int index) {
+        return visitedStamp[index] == epoch;
+    }
+
+    /**
+     * Marks a vertex as visited (settled) for the current search.
+     *
+     * @param index the vertex index
+     */
+    void visit(int index) {
+        visitedStamp[index] = epoch;
+    }
+
+    /**
+     * Returns true if the vertex was given a distance during the current search.
+     *
+     * @param index the vertex index
+     * @return true if the vertex is reached
+     */
+    boolean isReached(int index) {
+        return reachedStamp[index] == epoch;
+    }
+
+    /**
+     * Records the tentative distance of a vertex and the vertex it was reached from.
+     *
+     * @param index the vertex index
+     * @param from the parent vertex index, or -1 for a source
+     * @param dist the distance of the vertex
+     */
+    void reach(int index, int from, double dist) {
+        reachedStamp[index] = epoch;
+        parent[index] = from;
+        distance[index] = dist;
+    }
+
+    /**
+     * Returns the vertex a reached vertex was reached from.
+     *
+     * @param index the vertex index
+     * @return the parent index, or -1 for a source or an unreached vertex
+     */
+    int parentOf(int index) {
+        return isReached(index) ? parent[index] : -1;
+    }
+
+    /**
+     * Returns the distance recorded for a vertex in the current search.
+     *
+     * @param index the vertex index
+     * @return the distance, or Double.MAX_VALUE if the vertex is unreached
+     */
+    double distanceOf(int index) {
+        return isReached(index) ? distance[index] : Double.MAX_VALUE;
+    }
+
+    /**
+     * Returns the reusable queue, empty at the start of each search.
+     *
+     * @return the queue of this workspace
+     */
+    IntArrayQueue queue() {
+        return queue;
+    }
+
+    /**
+     * Returns the reusable stack, empty at the start of each search.
+     *
+     * @return the stack of this workspace
+     */
+    IntArrayStack stack() {
+        return stack;
+    }
+
+    /**
+     * Returns the reusable indexed heap, empty at the start of each search.
+     *
+     * @return the heap of this workspace
+     */
+    IndexedMinPriorityQueue heap() {
+        return heap;
+    }
+
+    /**
+     * Returns true if a search on this thread is currently using the workspace.
+     *
+     * @return true if the workspace is taken
+     */
+    boolean isInUse() {
+        return inUse;
+    }
+
+    /**
+     * Marks the workspace as taken or free.
+     *
+     * @param inUse true while a search is using the workspace
+     */
+    void setInUse(boolean inUse) {
+        this.inUse = inUse;
+    }
+
+    /**
+     * Grows the per-vertex arrays to hold at least the given number of indices,
+     * at least doubling them. Existing stamps are kept, so old marks stay stale.
+     *
+     * @param minCapacity the number of indices that must fit
+     */
+    private void expandCapacity(int minCapacity) {
+        int newCapacity = Math.max(visitedStamp.length * 2, minCapacity);
+        visitedStamp = Arrays.copyOf(visitedStamp, newCapacity);
+        reachedStamp = Arrays.copyOf(reachedStamp, newCapacity);
+        parent = Arrays.copyOf(parent, newCapacity);
+        distance = Arrays.copyOf(distance, newCapacity);
+    }
+}
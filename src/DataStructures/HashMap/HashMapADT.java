@@ -0,0 +1,72 @@
+package DataStructures.HashMap;
+
+import DataStructures.Iterator;
+
+public interface HashMapADT<K, V> {
+
+    /**
+     * Associates a value with a key, replacing the value previously stored for it.
+     *
+     * @param key the key, which must not be null
+     * @param value the value to store for the key
+     * @return the value previously stored for the key, or null if there was none
+     */
+    public V put(K key, V value);
+
+    /**
+     * Returns the value stored for a key.
+     *
+     * @param key the key to look up
+     * @return the value stored for the key, or null if the key is not in this map
+     */
+    public V get(K key);
+
+    /**
+     * Returns true if this map holds a value for the given key.
+     *
+     * @param key the key to look up
+     * @return true if the key is in this map
+     */
+    public boolean containsKey(K key);
+
+    /**
+     * Removes a key and its value from this map.
+     *
+     * @param key the key to remove
+     * @return the value that was stored for the key, or null if the key was not in this map
+     */
+    public V remove(K key);
+
+    /**
+     * Removes every key from this map.
+     */
+    public void clear();
+
+    /**
+     * Returns true if this map holds no keys.
+     *
+     * @return true if this map is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return the number of keys
+     */
+    public int size();
+
+    /**
+     * Returns an iterator over the keys of this map, in no particular order.
+     *
+     * @return an iterator over the keys
+     */
+    public Iterator<K> keys();
+
+    /**
+     * Returns an iterator over the values of this map, in the same order as keys().
+     *
+     * @return an iterator over the values
+     */
+    public Iterator<V> values();
+}
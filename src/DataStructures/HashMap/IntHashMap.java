@@ -0,0 +1,261 @@
+package DataStructures.HashMap;
+
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Iterator;
+
+/**
+ * IntHashMap is the primitive-key specialisation of LinearProbingHashMap: keys
+ * are plain ints stored in an int[], so no Integer is boxed on put or get and
+ * keys need no equals() call. Slots use linear probing over a power-of-two
+ * table, with Fibonacci hashing to pick the home slot, and removal shifts the
+ * following entries back instead of leaving tombstones. A slot is occupied
+ * while its value is not null, so null values cannot be stored.
+ *
+ * @param <V> the type of the values
+ */
+public class IntHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private V[] values;
+    private int shift;
+    private int size;
+
+    /**
+     * Creates an empty map with default capacity.
+     */
+    public IntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of keys before it
+     * has to grow.
+     *
+     * @param expectedSize the expected number of keys
+     */
+    public IntHashMap(int expectedSize) {
+        int capacity = 2;
+        while (capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Associates a value with a key, replacing the value previously stored for it.
+     *
+     * @param key the key
+     * @param value the value to store, which must not be null
+     * @return the value previously stored for the key, or null if there was none
+     * @throws IllegalArgumentException if the value is null
+     */
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Valor nulo.");
+        }
+        int slot = find(key);
+        V old = values[slot];
+        keys[slot] = key;
+        values[slot] = value;
+        if (old == null) {
+            size++;
+            if (size * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Returns the value stored for a key.
+     *
+     * @param key the key to look up
+     * @return the value stored for the key, or null if the key is not in this map
+     */
+    public V get(int key) {
+        return values[find(key)];
+    }
+
+    /**
+     * Returns true if this map holds a value for the given key.
+     *
+     * @param key the key to look up
+     * @return true if the key is in this map
+     */
+    public boolean containsKey(int key) {
+        return values[find(key)] != null;
+    }
+
+    /**
+     * Removes a key and its value from this map, moving back the entries after
+     * it in the same probe run.
+     *
+     * @param key the key to remove
+     * @return the value that was stored for the key, or null if the key was not in this map
+     */
+    public V remove(int key) {
+        int slot = find(key);
+        V result = values[slot];
+        if (result == null) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+
+        while (values[next] != null) {
+            int home = home(keys[next]);
+            // The entry may fill the gap only if the gap lies between its home and its slot
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+        return result;
+    }
+
+    /**
+     * Removes every key from this map, keeping the current table size.
+     */
+    public void clear() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns true if this map holds no keys.
+     *
+     * @return true if this map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the values of this map, in table order.
+     *
+     * @return an iterator over the values
+     */
+    public Iterator<V> values() {
+        return new Iterator<V>() {
+            private int slot = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < values.length;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V result = values[slot];
+                slot = nextOccupied(slot + 1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns the keys of this map in the same order as values().
+     *
+     * @return a new array holding every key
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[count++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slot holding a key, or the empty slot that ends its probe run.
+     *
+     * @param key the key to look up
+     * @return the slot of the key if present, otherwise the slot it would take
+     */
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int slot = home(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the home slot of a key: the top bits of the key multiplied by the
+     * golden ratio constant, which scatters consecutive keys across the table.
+     *
+     * @param key the key
+     * @return the home slot
+     */
+    private int home(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Returns the first occupied slot at or after the given one.
+     *
+     * @param from the slot to start from
+     * @return the occupied slot, or the table length if there is none
+     */
+    private int nextOccupied(int from) {
+        while (from < values.length && values[from] == null) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Moves every entry into a new table of the given size.
+     *
+     * @param capacity the new table size, a power of two
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Replaces the table with empty arrays of the given size.
+     *
+     * @param capacity the table size, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = (V[]) new Object[capacity];
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+    }
+}
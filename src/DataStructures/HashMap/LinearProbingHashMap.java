@@ -0,0 +1,339 @@
+package DataStructures.HashMap;
+
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Iterator;
+
+/**
+ * LinearProbingHashMap is a hash map with open addressing. Keys and values are
+ * stored in two parallel arrays whose length is a power of two, and the home
+ * slot of a key is picked by Fibonacci hashing of its hash code. Collisions
+ * are resolved by probing the following slots one by one, which keeps the
+ * probe sequence in neighbouring memory. Removal shifts later entries of the
+ * same probe run back instead of leaving tombstones, so lookups never have to
+ * skip deleted slots. The table doubles once it is three quarters full, so
+ * put, get and remove run in expected O(1) time.
+ * Keys are compared with equals() and must not be null; values may be null.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LinearProbingHashMap<K, V> implements HashMapADT<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private K[] keys;
+    private V[] values;
+    private int shift;
+    private int size;
+
+    /**
+     * Creates an empty map with default capacity.
+     */
+    public LinearProbingHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of keys before it
+     * has to grow.
+     *
+     * @param expectedSize the expected number of keys
+     */
+    public LinearProbingHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Associates a value with a key, replacing the value previously stored for it.
+     *
+     * @param key the key, which must not be null
+     * @param value the value to store for the key
+     * @return the value previously stored for the key, or null if there was none
+     * @throws IllegalArgumentException if the key is null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Chave nula.");
+        }
+        int slot = find(key);
+        if (keys[slot] != null) {
+            V old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value stored for a key.
+     *
+     * @param key the key to look up
+     * @return the value stored for the key, or null if the key is not in this map
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        return values[find(key)];
+    }
+
+    /**
+     * Returns true if this map holds a value for the given key.
+     *
+     * @param key the key to look up
+     * @return true if the key is in this map
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return key != null && keys[find(key)] != null;
+    }
+
+    /**
+     * Removes a key and its value from this map. The entries after it in the
+     * same probe run are moved back so that no gap breaks their probe sequence.
+     *
+     * @param key the key to remove
+     * @return the value that was stored for the key, or null if the key was not in this map
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        int slot = find(key);
+        if (keys[slot] == null) {
+            return null;
+        }
+        V result = values[slot];
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+
+        while (keys[next] != null) {
+            int home = home(keys[next].hashCode());
+            // The entry may fill the gap only if the gap lies between its home and its slot
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+        return result;
+    }
+
+    /**
+     * Removes every key from this map, keeping the current table size.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns true if this map holds no keys.
+     *
+     * @return true if this map is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return the number of keys
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the keys of this map, in table order.
+     *
+     * @return an iterator over the keys
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new SlotIterator<K>() {
+            @Override
+            protected K element(int slot) {
+                return keys[slot];
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the values of this map, in the same order as keys().
+     *
+     * @return an iterator over the values
+     */
+    @Override
+    public Iterator<V> values() {
+        return new SlotIterator<V>() {
+            @Override
+            protected V element(int slot) {
+                return values[slot];
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of this map.
+     *
+     * @return a string listing the key and value pairs
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean first = true;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(keys[i]).append("=").append(values[i]);
+                first = false;
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the slot holding a key, or the empty slot that ends its probe run.
+     *
+     * @param key the key to look up
+     * @return the slot of the key if present, otherwise the slot it would take
+     */
+    private int find(K key) {
+        int mask = keys.length - 1;
+        int slot = home(key.hashCode());
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Moves every entry into a new table of the given size.
+     *
+     * @param capacity the new table size, a power of two
+     */
+    private void resize(int capacity) {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Replaces the table with empty arrays of the given size.
+     *
+     * @param capacity the table size, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Returns the smallest power of two that holds the given number of keys
+     * below the maximum load.
+     *
+     * @param expectedSize the number of keys
+     * @return the table size
+     */
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 2;
+        while (capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the home slot of a hash code: the top bits of the hash multiplied
+     * by the golden ratio constant, which scatters hash codes that differ only
+     * in a few low bits across the table.
+     *
+     * @param hash the hash code of a key
+     * @return the home slot
+     */
+    private int home(int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * SlotIterator walks the table in slot order, returning one element per
+     * occupied slot. The map should not be modified while it is in use.
+     *
+     * @param <E> the type of the elements returned
+     */
+    private abstract class SlotIterator<E> implements Iterator<E> {
+
+        private int slot = nextOccupied(0);
+
+        /**
+         * Returns the element of this iteration stored at an occupied slot.
+         *
+         * @param slot the slot index
+         * @return the element at that slot
+         */
+        protected abstract E element(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = element(slot);
+            slot = nextOccupied(slot + 1);
+            return result;
+        }
+
+        /**
+         * Returns the first occupied slot at or after the given one.
+         *
+         * @param from the slot to start from
+         * @return the occupied slot, or the table length if there is none
+         */
+        private int nextOccupied(int from) {
+            while (from < keys.length && keys[from] == null) {
+                from++;
+            }
+            return from;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package DataStructures.HashSet;
+
+import DataStructures.Iterator;
+
+public interface HashSetADT<T> {
+
+    /**
+     * Adds an element to this set if it is not already present.
+     *
+     * @param element the element to add, which must not be null
+     * @return true if the element was added, false if it was already present
+     */
+    public boolean add(T element);
+
+    /**
+     * Returns true if this set contains the given element.
+     *
+     * @param element the element to look up
+     * @return true if the element is in this set
+     */
+    public boolean contains(T element);
+
+    /**
+     * Removes an element from this set.
+     *
+     * @param element the element to remove
+     * @return true if the element was removed, false if it was not present
+     */
+    public boolean remove(T element);
+
+    /**
+     * Removes every element from this set.
+     */
+    public void clear();
+
+    /**
+     * Returns true if this set holds no elements.
+     *
+     * @return true if this set is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this set.
+     *
+     * @return the number of elements
+     */
+    public int size();
+
+    /**
+     * Returns an iterator over the elements of this set, in no particular order.
+     *
+     * @return an iterator over the elements
+     */
+    public Iterator<T> iterator();
+}
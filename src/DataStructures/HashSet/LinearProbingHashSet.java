@@ -0,0 +1,126 @@
+package DataStructures.HashSet;
+
+import DataStructures.HashMap.LinearProbingHashMap;
+import DataStructures.Iterator;
+
+/**
+ * LinearProbingHashSet is a hash set backed by a LinearProbingHashMap whose
+ * keys are the elements of the set, so membership tests, insertions and
+ * removals run in expected O(1) time. Elements are compared with equals() and
+ * must not be null.
+ *
+ * @param <T> the type of the elements
+ */
+public class LinearProbingHashSet<T> implements HashSetADT<T> {
+
+    private static final Object PRESENT = new Object();
+
+    private final LinearProbingHashMap<T, Object> map;
+
+    /**
+     * Creates an empty set with default capacity.
+     */
+    public LinearProbingHashSet() {
+        this.map = new LinearProbingHashMap<>();
+    }
+
+    /**
+     * Creates an empty set that can hold the given number of elements before it
+     * has to grow.
+     *
+     * @param expectedSize the expected number of elements
+     */
+    public LinearProbingHashSet(int expectedSize) {
+        this.map = new LinearProbingHashMap<>(expectedSize);
+    }
+
+    /**
+     * Adds an element to this set if it is not already present.
+     *
+     * @param element the element to add, which must not be null
+     * @return true if the element was added, false if it was already present
+     */
+    @Override
+    public boolean add(T element) {
+        return map.put(element, PRESENT) == null;
+    }
+
+    /**
+     * Returns true if this set contains the given element.
+     *
+     * @param element the element to look up
+     * @return true if the element is in this set
+     */
+    @Override
+    public boolean contains(T element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * Removes an element from this set.
+     *
+     * @param element the element to remove
+     * @return true if the element was removed, false if it was not present
+     */
+    @Override
+    public boolean remove(T element) {
+        return map.remove(element) != null;
+    }
+
+    /**
+     * Removes every element from this set.
+     */
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Returns true if this set holds no elements.
+     *
+     * @return true if this set is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements in this set.
+     *
+     * @return the number of elements
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns an iterator over the elements of this set, in table order.
+     *
+     * @return an iterator over the elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return map.keys();
+    }
+
+    /**
+     * Returns a string representation of this set.
+     *
+     * @return a string listing the elements
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
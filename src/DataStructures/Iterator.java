@@ -4,10 +4,13 @@ package DataStructures;
  * Iterator represents a generic iterator interface for traversing
  * elements in a collection sequentially. Provides standard operations
  * to check for remaining elements and retrieve the next element.
+ * It extends java.util.Iterator, so the collections of this package can be
+ * Iterable and used in for-each loops and streams; remove() keeps its default
+ * behaviour of throwing UnsupportedOperationException.
  *
  * @param <T> the type of elements returned by this iterator
  */
-public interface Iterator<T> {
+public interface Iterator<T> extends java.util.Iterator<T> {
     /**
      * Returns true if the iteration has more elements.
      * In other words, returns true if next() would return an element
@@ -15,6 +18,7 @@ public interface Iterator<T> {
      *
      * @return true if the iterator has more elements to traverse, false otherwise
      */
+    @Override
     boolean hasNext();
 
     /**
@@ -23,5 +27,6 @@ public interface Iterator<T> {
      *
      * @return the next element in the iteration
      */
+    @Override
     T next();
 }
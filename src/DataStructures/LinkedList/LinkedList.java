@@ -13,7 +13,7 @@ import DataStructures.Exceptions.NoSuchElementException;
  *
  * @param <T> the type of elements stored in this list
  */
-public class LinkedList<T> {
+public class LinkedList<T> implements Iterable<T> {
 
     private DoubleNode<T> head;
     private DoubleNode<T> tail;
@@ -172,6 +172,7 @@ public class LinkedList<T> {
      *
      * @return an Iterator that traverses this list from beginning to end
      */
+    @Override
     public Iterator<T> iterator() {
         return new Iterator<T>() {
             // Maintain current position for sequential traversal
@@ -0,0 +1,291 @@
+package DataStructures.PriorityQueue;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Exceptions.NoSuchElementException;
+
+/**
+ * IndexedMinPriorityQueue is a binary min-heap over integer indices, each paired
+ * with a double key. Besides the usual insert and deleteMin it keeps the heap
+ * position of every index, so an index can be found and its key lowered in
+ * O(log n). This is the structure Dijkstra's algorithm needs to run in
+ * O(E log V). Indices must be non-negative; the queue grows to fit larger ones.
+ */
+public class IndexedMinPriorityQueue implements IndexedPriorityQueueADT {
+
+    private final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * number of indices in the heap
+     */
+    private int size;
+
+    /**
+     * heap[i] is the index stored at heap position i (1-based)
+     */
+    private int[] heap;
+
+    /**
+     * position[index] is the heap position of the index, or 0 if it is absent
+     */
+    private int[] position;
+
+    /**
+     * keys[index] is the key associated with the index
+     */
+    private double[] keys;
+
+    /**
+     * Creates an empty queue using the default capacity.
+     */
+    public IndexedMinPriorityQueue() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty queue able to hold indices 0 to capacity - 1 without growing.
+     *
+     * @param capacity the expected number of distinct indices
+     */
+    public IndexedMinPriorityQueue(int capacity) {
+        int length = Math.max(capacity, DEFAULT_CAPACITY);
+        this.size = 0;
+        this.heap = new int[length + 1];
+        this.position = new int[length];
+        this.keys = new double[length];
+    }
+
+    /**
+     * Associates the given key with an index that is not yet in this queue and
+     * sifts it up to its place in the heap.
+     *
+     * @param index the index to be inserted
+     * @param key the priority of the index
+     * @throws IllegalArgumentException if the index is negative or already in the queue
+     */
+    @Override
+    public void insert(int index, double key) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Negative index: " + index);
+        }
+        if (index >= position.length) {
+            expandCapacity(index + 1);
+        }
+        if (position[index] != 0) {
+            throw new IllegalArgumentException("Index already in queue: " + index);
+        }
+
+        size++;
+        heap[size] = index;
+        position[index] = size;
+        keys[index] = key;
+        siftUp(size);
+    }
+
+    /**
+     * Lowers the key associated with an index and sifts it up. Keys that are not
+     * smaller than the current one are ignored.
+     *
+     * @param index the index whose key is lowered
+     * @param key the new, smaller key
+     * @throws NoSuchElementException if the index is not in the queue
+     */
+    @Override
+    public void decreaseKey(int index, double key) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index not in queue: " + index);
+        }
+        if (key < keys[index]) {
+            keys[index] = key;
+            siftUp(position[index]);
+        }
+    }
+
+    /**
+     * Removes and returns the index with the smallest key. The last heap entry
+     * takes its place and is sifted down.
+     *
+     * @return the index with the smallest key
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    @Override
+    public int deleteMin() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("The Priority Queue Is Empty");
+        }
+
+        int min = heap[1];
+        swap(1, size);
+        size--;
+        position[min] = 0;
+        if (size > 0) {
+            siftDown(1);
+        }
+        return min;
+    }
+
+    /**
+     * Returns without removing the index with the smallest key.
+     *
+     * @return the index with the smallest key
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    @Override
+    public int minIndex() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("The Priority Queue Is Empty");
+        }
+        return heap[1];
+    }
+
+    /**
+     * Returns true if the given index is currently in this queue.
+     *
+     * @param index the index to look for
+     * @return true if the index is in the queue
+     */
+    @Override
+    public boolean contains(int index) {
+        return index >= 0 && index < position.length && position[index] != 0;
+    }
+
+    /**
+     * Returns the key currently associated with an index in this queue.
+     *
+     * @param index the index to look up
+     * @return the key of the index
+     * @throws NoSuchElementException if the index is not in the queue
+     */
+    @Override
+    public double keyOf(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index not in queue: " + index);
+        }
+        return keys[index];
+    }
+
+    /**
+     * Removes every index from this queue. Only the positions still in use are
+     * reset, so clearing costs O(size) and the arrays are kept for reuse.
+     */
+    @Override
+    public void clear() {
+        for (int i = 1; i <= size; i++) {
+            position[heap[i]] = 0;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns true if this queue contains no indices.
+     *
+     * @return true if this queue is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of indices in this queue.
+     *
+     * @return the integer representation of the size of the queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a string representation of this queue, listing each index and its
+     * key in heap order.
+     *
+     * @return the string representation of the queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= size; i++) {
+            sb.append(heap[i]).append(" (").append(keys[heap[i]]).append(")\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Moves the entry at a heap position up while its key is smaller than its parent's.
+     *
+     * @param pos the heap position to sift up
+     */
+    private void siftUp(int pos) {
+        while (pos > 1 && less(pos, pos / 2)) {
+            swap(pos, pos / 2);
+            pos = pos / 2;
+        }
+    }
+
+    /**
+     * Moves the entry at a heap position down while a child has a smaller key.
+     *
+     * @param pos the heap position to sift down
+     */
+    private void siftDown(int pos) {
+        while (2 * pos <= size) {
+            int child = 2 * pos;
+            // Pick the smaller of the two children
+            if (child < size && less(child + 1, child)) {
+                child++;
+            }
+            if (!less(child, pos)) {
+                break;
+            }
+            swap(pos, child);
+            pos = child;
+        }
+    }
+
+    /**
+     * Compares the keys of the entries at two heap positions.
+     *
+     * @param i the first heap position
+     * @param j the second heap position
+     * @return true if the key at i is smaller than the key at j
+     */
+    private boolean less(int i, int j) {
+        return keys[heap[i]] < keys[heap[j]];
+    }
+
+    /**
+     * Swaps the entries at two heap positions and updates their recorded positions.
+     *
+     * @param i the first heap position
+     * @param j the second heap position
+     */
+    private void swap(int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+        position[heap[i]] = i;
+        position[heap[j]] = j;
+    }
+
+    /**
+     * Grows the index arrays so that indices below the given bound fit,
+     * at least doubling the current capacity.
+     *
+     * @param minCapacity the number of indices that must fit
+     */
+    private void expandCapacity(int minCapacity) {
+        int newCapacity = Math.max(position.length * 2, minCapacity);
+
+        int[] largerHeap = new int[newCapacity + 1];
+        int[] largerPosition = new int[newCapacity];
+        double[] largerKeys = new double[newCapacity];
+
+        System.arraycopy(heap, 0, largerHeap, 0, size + 1);
+        System.arraycopy(position, 0, largerPosition, 0, position.length);
+        System.arraycopy(keys, 0, largerKeys, 0, keys.length);
+
+        heap = largerHeap;
+        position = largerPosition;
+        keys = largerKeys;
+    }
+}
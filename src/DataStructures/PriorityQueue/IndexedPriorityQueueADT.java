@@ -0,0 +1,81 @@
+package DataStructures.PriorityQueue;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+
+public interface IndexedPriorityQueueADT {
+
+    /**
+     * Associates the given key with an index that is not yet in this queue.
+     *
+     * @param index the index to be inserted
+     * @param key the priority of the index
+     */
+    public void insert(int index, double key);
+
+    /**
+     * Lowers the key associated with an index already in this queue.
+     *
+     * @param index the index whose key is lowered
+     * @param key the new, smaller key
+     */
+    public void decreaseKey(int index, double key);
+
+    /**
+     * Removes and returns the index with the smallest key.
+     *
+     * @return the index with the smallest key
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    public int deleteMin() throws EmptyCollectionException;
+
+    /**
+     * Returns without removing the index with the smallest key.
+     *
+     * @return the index with the smallest key
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    public int minIndex() throws EmptyCollectionException;
+
+    /**
+     * Returns true if the given index is currently in this queue.
+     *
+     * @param index the index to look for
+     * @return true if the index is in the queue
+     */
+    public boolean contains(int index);
+
+    /**
+     * Returns the key currently associated with an index in this queue.
+     *
+     * @param index the index to look up
+     * @return the key of the index
+     */
+    public double keyOf(int index);
+
+    /**
+     * Removes every index from this queue.
+     */
+    public void clear();
+
+    /**
+     * Returns true if this queue contains no indices.
+     *
+     * @return true if this queue is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of indices in this queue.
+     *
+     * @return the integer representation of the size of the queue
+     */
+    public int size();
+
+    /**
+     * Returns a string representation of this queue.
+     *
+     * @return the string representation of the queue
+     */
+    @Override
+    public String toString();
+}
@@ -0,0 +1,189 @@
+package DataStructures.Queue;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+
+/**
+ * IntArrayQueue is a queue of primitive ints stored in a circular array. Unlike
+ * LinkedQueue it allocates no node and no boxed Integer per element, which makes
+ * it suitable for graph traversals over very large maps. The array doubles when
+ * full and is kept by clear(), so one queue can be reused across searches.
+ * The QueueADT methods are provided for compatibility and box their values;
+ * hot paths should use enqueueInt, dequeueInt and firstInt.
+ */
+public class IntArrayQueue implements QueueADT<Integer> {
+
+    private final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * int that represents the number of elements in the queue
+     */
+    private int size;
+
+    /**
+     * position of the front element in the array
+     */
+    private int front;
+
+    /**
+     * next available position at the rear of the array
+     */
+    private int rear;
+
+    /**
+     * array of ints that represents the queue
+     */
+    private int[] queue;
+
+    /**
+     * Creates an empty queue using the default capacity.
+     */
+    public IntArrayQueue() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty queue able to hold the given number of elements without growing.
+     *
+     * @param initialCapacity the expected number of elements
+     */
+    public IntArrayQueue(int initialCapacity) {
+        this.queue = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+        this.size = 0;
+        this.front = 0;
+        this.rear = 0;
+    }
+
+    /**
+     * Adds an int to the rear of this queue, expanding the array if necessary.
+     *
+     * @param element the value to be added to the rear of the queue
+     */
+    public void enqueueInt(int element) {
+        if (size == queue.length) {
+            expandCapacity();
+        }
+
+        queue[rear] = element;
+        rear = (rear + 1) % queue.length;
+        size++;
+    }
+
+    /**
+     * Removes and returns the int at the front of this queue.
+     *
+     * @return the value at the front of the queue
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    public int dequeueInt() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("The Queue Is Empty");
+        }
+
+        int result = queue[front];
+        front = (front + 1) % queue.length;
+        size--;
+        return result;
+    }
+
+    /**
+     * Returns without removing the int at the front of this queue.
+     *
+     * @return the value at the front of the queue
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    public int firstInt() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("The Queue Is Empty");
+        }
+        return queue[front];
+    }
+
+    /**
+     * Adds the specified element to the rear of this queue.
+     *
+     * @param element the element to be added to the rear of the queue
+     */
+    @Override
+    public void enqueue(Integer element) {
+        enqueueInt(element);
+    }
+
+    /**
+     * Removes the element at the front of this queue and returns it.
+     *
+     * @return the element at the front of the queue
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    @Override
+    public Integer dequeue() throws EmptyCollectionException {
+        return dequeueInt();
+    }
+
+    /**
+     * Returns without removing the element at the front of this queue.
+     *
+     * @return the first element in the queue
+     * @throws EmptyCollectionException if the queue is empty
+     */
+    @Override
+    public Integer first() throws EmptyCollectionException {
+        return firstInt();
+    }
+
+    /**
+     * Removes every element from this queue, keeping the array for reuse.
+     */
+    public void clear() {
+        size = 0;
+        front = 0;
+        rear = 0;
+    }
+
+    /**
+     * Returns true if this queue contains no elements.
+     *
+     * @return true if this queue is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the integer representation of the size of the queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a string representation of this queue, from front to rear.
+     *
+     * @return the string representation of the queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append(queue[(front + i) % queue.length]).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Doubles the capacity of the array, unwrapping the elements so that the
+     * front of the queue moves to position 0.
+     */
+    private void expandCapacity() {
+        int[] larger = new int[queue.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = queue[(front + i) % queue.length];
+        }
+        front = 0;
+        rear = size;
+        queue = larger;
+    }
+}
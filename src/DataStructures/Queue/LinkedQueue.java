@@ -1,9 +1,11 @@
 package DataStructures.Queue;
 
 import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Exceptions.NoSuchElementException;
+import DataStructures.Iterator;
 import DataStructures.Stack.LinearNode;
 
-public class LinkedQueue<T> implements QueueADT<T> {
+public class LinkedQueue<T> implements QueueADT<T>, Iterable<T> {
 
     /**
      * int that represents both the number of elements and the next available
@@ -109,6 +111,34 @@ public class LinkedQueue<T> implements QueueADT<T> {
         return size;
     }
 
+    /**
+     * Returns an iterator over the elements of this queue, from front to rear,
+     * without removing them.
+     *
+     * @return an iterator over the elements of this queue
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private LinearNode<T> current = front;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T result = current.getElement();
+                current = current.getNext();
+                return result;
+            }
+        };
+    }
+
     /**
      * Returns a string representation of this queue.
      *
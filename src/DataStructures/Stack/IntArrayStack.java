@@ -0,0 +1,166 @@
+package DataStructures.Stack;
+
+import DataStructures.Exceptions.EmptyCollectionException;
+
+/**
+ * IntArrayStack is a stack of primitive ints stored in an array. Unlike
+ * LinkedStack it allocates no node and no boxed Integer per element, which makes
+ * it suitable for graph traversals over very large maps. The array doubles when
+ * full and is kept by clear(), so one stack can be reused across searches.
+ * The StackADT methods are provided for compatibility and box their values;
+ * hot paths should use pushInt, popInt and peekInt.
+ */
+public class IntArrayStack implements StackADT<Integer> {
+
+    private final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * int that represents both the number of elements and the next available
+     * position in the array
+     */
+    private int top;
+
+    /**
+     * array of ints that represents the stack
+     */
+    private int[] stack;
+
+    /**
+     * Creates an empty stack using the default capacity.
+     */
+    public IntArrayStack() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty stack able to hold the given number of elements without growing.
+     *
+     * @param initialCapacity the expected number of elements
+     */
+    public IntArrayStack(int initialCapacity) {
+        this.stack = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+        this.top = 0;
+    }
+
+    /**
+     * Adds an int to the top of this stack, expanding the array if necessary.
+     *
+     * @param element the value to be pushed onto the stack
+     */
+    public void pushInt(int element) {
+        if (top == stack.length) {
+            expandCapacity();
+        }
+        stack[top] = element;
+        top++;
+    }
+
+    /**
+     * Removes and returns the int at the top of this stack.
+     *
+     * @return the value removed from the top of the stack
+     * @throws EmptyCollectionException if the stack is empty
+     */
+    public int popInt() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("The Stack Is Empty");
+        }
+        top--;
+        return stack[top];
+    }
+
+    /**
+     * Returns without removing the int at the top of this stack.
+     *
+     * @return the value on top of the stack
+     * @throws EmptyCollectionException if the stack is empty
+     */
+    public int peekInt() throws EmptyCollectionException {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("The Stack Is Empty");
+        }
+        return stack[top - 1];
+    }
+
+    /**
+     * Adds the specified element to the top of this stack.
+     *
+     * @param element element to be pushed onto stack
+     */
+    @Override
+    public void push(Integer element) {
+        pushInt(element);
+    }
+
+    /**
+     * Removes the element at the top of this stack and returns it.
+     *
+     * @return Integer element removed from the top of the stack
+     * @throws EmptyCollectionException if the stack is empty
+     */
+    @Override
+    public Integer pop() throws EmptyCollectionException {
+        return popInt();
+    }
+
+    /**
+     * Returns without removing the top element of this stack.
+     *
+     * @return Integer element on top of the stack
+     * @throws EmptyCollectionException if the stack is empty
+     */
+    @Override
+    public Integer peek() throws EmptyCollectionException {
+        return peekInt();
+    }
+
+    /**
+     * Removes every element from this stack, keeping the array for reuse.
+     */
+    public void clear() {
+        top = 0;
+    }
+
+    /**
+     * Returns true if this stack contains no elements.
+     *
+     * @return boolean whether or not this stack is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return (top == 0);
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     *
+     * @return int number of elements in this stack
+     */
+    @Override
+    public int size() {
+        return top;
+    }
+
+    /**
+     * Returns a string representation of this stack, from top to bottom.
+     *
+     * @return String representation of this stack
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = top - 1; i >= 0; i--) {
+            sb.append(stack[i]).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Doubles the capacity of the array.
+     */
+    private void expandCapacity() {
+        int[] larger = new int[stack.length * 2];
+        System.arraycopy(stack, 0, larger, 0, top);
+        stack = larger;
+    }
+}
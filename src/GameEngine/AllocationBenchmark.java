@@ -0,0 +1,119 @@
+package GameEngine;
+
+import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.Graph.GameGraph;
+import DataStructures.Iterator;
+import Models.Connection;
+import Models.Room;
+import Utils.GameConfig;
+import java.lang.management.ManagementFactory;
+
+/**
+ * AllocationBenchmark measures how many bytes the engine allocates to build a
+ * generated map and to play a 100-turn game between bots. The bot game runs the
+ * same queries a bot makes on its turn (distance field to the centre, nearby
+ * pickaxe search, shortest path, random neighbour when stuck) on the calling
+ * thread, without the delays, sounds and turn threads of GameManager, so the
+ * thread allocation counter of the JVM sees all of it.
+ */
+public class AllocationBenchmark {
+
+    private static final int MAP_BUILDS = 50;
+    private static final int TURNS = 100;
+    private static final int BOTS = 4;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Warm up so class loading and JIT work are not counted
+        for (int i = 0; i < 5; i++) {
+            playGame(new GameMapGenerator(GameConfig.MAP_WIDTH, GameConfig.MAP_HEIGHT));
+        }
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MAP_BUILDS; i++) {
+            new GameMapGenerator(GameConfig.MAP_WIDTH, GameConfig.MAP_HEIGHT);
+        }
+        long buildBytes = (threads.getThreadAllocatedBytes(thread) - before) / MAP_BUILDS;
+
+        GameMapGenerator map = new GameMapGenerator(GameConfig.MAP_WIDTH, GameConfig.MAP_HEIGHT);
+        before = threads.getThreadAllocatedBytes(thread);
+        int moves = playGame(map);
+        long gameBytes = threads.getThreadAllocatedBytes(thread) - before;
+
+        System.out.printf("map build %dx%d: %,d bytes%n", GameConfig.MAP_WIDTH, GameConfig.MAP_HEIGHT, buildBytes);
+        System.out.printf("%d-turn bot game: %,d bytes over %d moves, %,d bytes per move%n",
+                TURNS, gameBytes, moves, gameBytes / Math.max(1, moves));
+    }
+
+    /**
+     * Plays a bot-only game on the given map and returns the number of moves made.
+     *
+     * @param map the map to play on
+     * @return the number of moves the bots made
+     */
+    private static int playGame(GameMapGenerator map) {
+        GameGraph graph = map.getGraph();
+        Room center = map.getRoom(map.getWidth() / 2, map.getHeight() / 2);
+        Room[] bots = new Room[BOTS];
+        Iterator<Room> entrances = map.getEntrances().iterator();
+        for (int i = 0; i < BOTS && entrances.hasNext(); i++) {
+            bots[i] = entrances.next();
+        }
+
+        Models.Random rand = new Models.Random();
+        int moves = 0;
+        for (int turn = 0; turn < TURNS; turn++) {
+            int b = turn % BOTS;
+            int steps = rand.nextInt(6) + rand.nextInt(6) + 2;
+            int[][] distToCenter = map.getDistancesTo(center);
+
+            for (int s = 0; s < steps && bots[b] != center; s++) {
+                Room current = bots[b];
+                Room target = center;
+                if (distToCenter[current.getX()][current.getY()] > 10) {
+                    Room pickaxe = graph.findNearest(current, Room::hasPickaxe, 4);
+                    if (pickaxe != null && pickaxe != current) {
+                        target = pickaxe;
+                    }
+                }
+
+                Iterator<Room> path = graph.iteratorShortestPath(current, target);
+                if (path.hasNext()) {
+                    path.next();
+                }
+                if (!path.hasNext()) {
+                    path = randomNeighbour(graph, current);
+                }
+                if (!path.hasNext()) {
+                    break;
+                }
+                bots[b] = path.next();
+                moves++;
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Returns a one-room path to a random unlocked neighbour, like a stuck bot takes.
+     *
+     * @param graph the map graph
+     * @param current the room of the bot
+     * @return an iterator over the chosen neighbour, or an empty iterator
+     */
+    private static Iterator<Room> randomNeighbour(GameGraph graph, Room current) {
+        ArrayUnorderedList<Room> path = new ArrayUnorderedList<>(1);
+        Iterator<Connection> it = graph.getConnections(current).iterator();
+        while (it.hasNext()) {
+            Connection c = it.next();
+            if (!c.isLocked()) {
+                path.add(c.getOther(current));
+                break;
+            }
+        }
+        return path.iterator();
+    }
+}
@@ -0,0 +1,224 @@
+package GameEngine;
+
+import DataStructures.Graph.GridGraph;
+import java.util.Arrays;
+
+/**
+ * BitParallelDistanceField computes breadth-first distance fields over a
+ * GridGraph by advancing the frontier 64 cells at a time. Cells are numbered
+ * like the grid graph (y * width + x), and the frontier, the visited set and the
+ * passability of each direction are bitsets over those numbers. One BFS level
+ * is then four shifted ANDs per word: cells of the frontier that can be left to
+ * the right, shifted left by one bit, are the cells reached to the right, and so
+ * on, with a shift of one row for up and down.
+ * Wide maze frontiers are sparse, so a level whose frontier is small compared to
+ * the words it spans is expanded cell by cell instead, reading the same
+ * bitplanes. The result is identical to a plain BFS over unlocked connections.
+ */
+class BitParallelDistanceField {
+
+    // A level is expanded with word operations once the frontier has at least
+    // one cell per this many words of the range it spans
+    private static final int DENSE_WORDS_PER_CELL = 4;
+
+    private final GridGraph graph;
+    private final int width;
+    private final int height;
+    private final int cells;
+    private final int words;
+
+    private final long[] visited;
+    private final long[] front;
+    private int[] frontier;
+    private int[] nextFrontier;
+
+    /**
+     * Creates a distance field engine for the given grid graph.
+     *
+     * @param graph the grid graph whose passability bitplanes are read
+     */
+    BitParallelDistanceField(GridGraph graph) {
+        this.graph = graph;
+        this.width = graph.getWidth();
+        this.height = graph.getHeight();
+        this.cells = width * height;
+        this.words = (cells + 63) >>> 6;
+        this.visited = new long[words];
+        this.front = new long[words];
+        this.frontier = new int[cells];
+        this.nextFrontier = new int[cells];
+    }
+
+    /**
+     * Returns the distance field to the cell at the given coordinates: for every
+     * room, the number of unlocked steps that separate it from the target, found
+     * by expanding outward from the target.
+     *
+     * @param targetX the column of the target room
+     * @param targetY the row of the target room
+     * @return a 2D array where dist[x][y] is the distance of room (x,y) to the
+     *         target, or Integer.MAX_VALUE if it is unreachable
+     */
+    synchronized int[][] compute(int targetX, int targetY) {
+        int[][] dist = new int[width][height];
+        for (int x = 0; x < width; x++) {
+            Arrays.fill(dist[x], Integer.MAX_VALUE);
+        }
+        Arrays.fill(visited, 0L);
+
+        long[] up = graph.getPassablePlane(GridGraph.UP);
+        long[] down = graph.getPassablePlane(GridGraph.DOWN);
+        long[] left = graph.getPassablePlane(GridGraph.LEFT);
+        long[] right = graph.getPassablePlane(GridGraph.RIGHT);
+
+        int start = targetY * width + targetX;
+        visited[start >>> 6] |= 1L << start;
+        dist[targetX][targetY] = 0;
+        frontier[0] = start;
+        int count = 1;
+        int level = 0;
+
+        while (count > 0) {
+            level++;
+            int min = frontier[0];
+            int max = frontier[0];
+            for (int i = 1; i < count; i++) {
+                min = Math.min(min, frontier[i]);
+                max = Math.max(max, frontier[i]);
+            }
+            // Cells reached this level lie at most one row away from the frontier
+            int lo = Math.max(0, min - width) >>> 6;
+            int hi = Math.min(cells - 1, max + width) >>> 6;
+
+            int nextCount;
+            if ((long) count * DENSE_WORDS_PER_CELL >= hi - lo + 1) {
+                nextCount = expandDense(count, lo, hi, level, dist, up, down, left, right);
+            } else {
+                nextCount = expandSparse(count, level, dist, up, down, left, right);
+            }
+
+            int[] swap = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swap;
+            count = nextCount;
+        }
+        return dist;
+    }
+
+    /**
+     * Expands one level with word operations over the words lo to hi.
+     *
+     * @return the number of cells in the next frontier
+     */
+    private int expandDense(int count, int lo, int hi, int level, int[][] dist,
+                            long[] up, long[] down, long[] left, long[] right) {
+        for (int i = 0; i < count; i++) {
+            front[frontier[i] >>> 6] |= 1L << frontier[i];
+        }
+
+        int rowWords = width >>> 6;
+        int rowBits = width & 63;
+        int nextCount = 0;
+
+        for (int w = lo; w <= hi; w++) {
+            // Right moves one bit up, left one bit down; a word also takes the
+            // bit carried across its boundary from the neighbouring word
+            long reached = (moves(right, w) << 1) | (moves(right, w - 1) >>> 63)
+                    | (moves(left, w) >>> 1) | (moves(left, w + 1) << 63);
+
+            // Down moves width bits up and up moves width bits down
+            if (rowBits == 0) {
+                reached |= moves(down, w - rowWords) | moves(up, w + rowWords);
+            } else {
+                reached |= (moves(down, w - rowWords) << rowBits)
+                        | (moves(down, w - rowWords - 1) >>> (64 - rowBits))
+                        | (moves(up, w + rowWords) >>> rowBits)
+                        | (moves(up, w + rowWords + 1) << (64 - rowBits));
+            }
+
+            reached &= ~visited[w];
+            if (reached == 0) {
+                continue;
+            }
+            visited[w] |= reached;
+            do {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(reached);
+                dist[cell % width][cell / width] = level;
+                nextFrontier[nextCount++] = cell;
+                reached &= reached - 1;
+            } while (reached != 0);
+        }
+
+        for (int i = 0; i < count; i++) {
+            front[frontier[i] >>> 6] = 0L;
+        }
+        return nextCount;
+    }
+
+    /**
+     * Expands one level cell by cell, testing the four bitplanes of each frontier cell.
+     *
+     * @return the number of cells in the next frontier
+     */
+    private int expandSparse(int count, int level, int[][] dist,
+                             long[] up, long[] down, long[] left, long[] right) {
+        int nextCount = 0;
+        for (int i = 0; i < count; i++) {
+            int u = frontier[i];
+            if (isSet(up, u)) {
+                nextCount = reach(u - width, level, dist, nextCount);
+            }
+            if (isSet(down, u)) {
+                nextCount = reach(u + width, level, dist, nextCount);
+            }
+            if (isSet(left, u)) {
+                nextCount = reach(u - 1, level, dist, nextCount);
+            }
+            if (isSet(right, u)) {
+                nextCount = reach(u + 1, level, dist, nextCount);
+            }
+        }
+        return nextCount;
+    }
+
+    /**
+     * Marks a cell reached at the given level unless it was reached before.
+     *
+     * @return the updated size of the next frontier
+     */
+    private int reach(int cell, int level, int[][] dist, int nextCount) {
+        if (isSet(visited, cell)) {
+            return nextCount;
+        }
+        visited[cell >>> 6] |= 1L << cell;
+        dist[cell % width][cell / width] = level;
+        nextFrontier[nextCount] = cell;
+        return nextCount + 1;
+    }
+
+    /**
+     * Returns the frontier cells of word w that can move in a direction,
+     * or 0 outside the grid.
+     *
+     * @param plane the passability bitplane of the direction
+     * @param w the word index
+     * @return the frontier word masked by the bitplane
+     */
+    private long moves(long[] plane, int w) {
+        if (w < 0 || w >= words) {
+            return 0L;
+        }
+        return front[w] & plane[w];
+    }
+
+    /**
+     * Returns true if a bit is set in a bitset.
+     *
+     * @param bits the bitset
+     * @param index the bit index
+     * @return true if the bit is set
+     */
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,84 @@
+package GameEngine;
+
+import DataStructures.Graph.CorridorGraph;
+import DataStructures.Graph.GridGraph;
+import Models.Room;
+
+/**
+ * DistanceFieldBenchmark times the bit-parallel distance field search and the
+ * search over contracted corridors against the room-by-room breadth-first
+ * search on generated mazes of growing size, after checking that all of them
+ * produce the same field. The target is the centre
+ * room, as in bot play. Large mazes need a big heap, e.g.
+ * {@code java -Xmx4g GameEngine.DistanceFieldBenchmark}.
+ */
+public class DistanceFieldBenchmark {
+
+    private static final int[] SIZES = {21, 64, 128, 256, 512, 1024, 2048};
+
+    public static void main(String[] args) {
+        System.out.println("size\tqueue BFS (ms)\tbit-parallel (ms)\tspeedup\tcorridors (ms)\tspeedup");
+        for (int size : SIZES) {
+            GameMapGenerator map = new GameMapGenerator(size, size, false);
+            map.generateMap();
+            Room centre = map.getRoom(size / 2, size / 2);
+            GridGraph grid = (GridGraph) map.getGraph();
+            BitParallelDistanceField field = new BitParallelDistanceField(grid);
+            CorridorGraph corridors = new CorridorGraph(grid);
+
+            int[][] reference = map.computeDistancesByQueue(centre);
+            if (!sameField(reference, field.compute(size / 2, size / 2))
+                    || !sameField(reference, corridors.distancesTo(size / 2, size / 2))) {
+                System.out.println(size + "\tfields differ");
+                grid.removeTopologyListener(corridors);
+                continue;
+            }
+
+            // Repeat small mazes so each measurement runs long enough to be stable
+            int repeats = Math.max(3, 2_000_000 / (size * size));
+            for (int i = 0; i < repeats; i++) {
+                map.computeDistancesByQueue(centre);
+                field.compute(size / 2, size / 2);
+                corridors.distancesTo(size / 2, size / 2);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < repeats; i++) {
+                map.computeDistancesByQueue(centre);
+            }
+            double queueMs = (System.nanoTime() - start) / 1e6 / repeats;
+
+            start = System.nanoTime();
+            for (int i = 0; i < repeats; i++) {
+                field.compute(size / 2, size / 2);
+            }
+            double bitMs = (System.nanoTime() - start) / 1e6 / repeats;
+
+            start = System.nanoTime();
+            for (int i = 0; i < repeats; i++) {
+                corridors.distancesTo(size / 2, size / 2);
+            }
+            double corridorMs = (System.nanoTime() - start) / 1e6 / repeats;
+            grid.removeTopologyListener(corridors);
+
+            System.out.printf("%dx%d\t%.3f\t%.3f\t%.2fx\t%.3f\t%.2fx%n", size, size, queueMs, bitMs,
+                    queueMs / bitMs, corridorMs, queueMs / corridorMs);
+        }
+    }
+
+    /**
+     * Returns true if two distance fields hold the same value for every room.
+     *
+     * @param a the first field
+     * @param b the second field
+     * @return true if the fields are equal
+     */
+    private static boolean sameField(int[][] a, int[][] b) {
+        for (int x = 0; x < a.length; x++) {
+            if (!java.util.Arrays.equals(a[x], b[x])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,154 @@
+package GameEngine;
+
+import DataStructures.HashMap.IntHashMap;
+import java.util.function.Consumer;
+
+/**
+ * DistanceFieldCache keeps a small, bounded set of BFS distance fields, each
+ * tagged with the target cell it was computed for and the topology version of
+ * the map at that time. A lookup only hits when both match, so any wall or lever
+ * change invalidates old fields without touching the cache, unless the owner
+ * repairs them in place and moves them to the new version with advance. When
+ * the cache is full, the least recently used field is evicted. The slot of
+ * each cached target is kept in an IntHashMap keyed by its cell, so a lookup
+ * does not scan the slots.
+ */
+public class DistanceFieldCache {
+
+    private final int[] targets;
+    private final IntHashMap<Integer> slots;
+    private final long[] versions;
+    private final int[][][] fields;
+    private final long[] lastUsed;
+    private long clock;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty cache holding at most the given number of distance fields.
+     *
+     * @param capacity the maximum number of cached fields
+     */
+    public DistanceFieldCache(int capacity) {
+        this.targets = new int[capacity];
+        this.slots = new IntHashMap<>(capacity);
+        this.versions = new long[capacity];
+        this.fields = new int[capacity][][];
+        this.lastUsed = new long[capacity];
+        this.clock = 0;
+        clear();
+    }
+
+    /**
+     * Returns the cached distance field for a target if it was computed at the
+     * given topology version, marking it as recently used.
+     *
+     * @param target the cell key of the target room
+     * @param version the current topology version of the map
+     * @return the cached field, or null if there is no up-to-date field for the target
+     */
+    public synchronized int[][] get(int target, long version) {
+        int slot = find(target);
+        if (slot != -1 && versions[slot] == version) {
+            lastUsed[slot] = ++clock;
+            hits++;
+            return fields[slot];
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Stores the distance field of a target. An older field for the same target is
+     * replaced; otherwise an empty slot or the least recently used one is taken.
+     *
+     * @param target the cell key of the target room
+     * @param version the topology version the field was computed at
+     * @param field the distance field to store
+     */
+    public synchronized void put(int target, long version, int[][] field) {
+        int slot = find(target);
+        if (slot == -1) {
+            slot = 0;
+            // Prefer an empty slot, otherwise evict the least recently used field
+            for (int i = 0; i < targets.length; i++) {
+                if (targets[i] == -1) {
+                    slot = i;
+                    break;
+                }
+                if (lastUsed[i] < lastUsed[slot]) {
+                    slot = i;
+                }
+            }
+        }
+        if (targets[slot] != target) {
+            if (targets[slot] != -1) {
+                slots.remove(targets[slot]);
+            }
+            slots.put(target, slot);
+        }
+        targets[slot] = target;
+        versions[slot] = version;
+        fields[slot] = field;
+        lastUsed[slot] = ++clock;
+    }
+
+    /**
+     * Applies an in-place update to every field that was current at the previous
+     * topology version and tags it with the new one. Fields that were already
+     * stale are left untouched and will be recomputed on their next lookup.
+     *
+     * @param previousVersion the topology version before the change
+     * @param version the topology version after the change
+     * @param repair the update applied to each field that is still current
+     */
+    public synchronized void advance(long previousVersion, long version, Consumer<int[][]> repair) {
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] != -1 && versions[i] == previousVersion) {
+                repair.accept(fields[i]);
+                versions[i] = version;
+            }
+        }
+    }
+
+    /**
+     * Removes every cached field.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = -1;
+            fields[i] = null;
+            lastUsed[i] = 0;
+        }
+        slots.clear();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to be recomputed.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the slot holding the field of a target.
+     *
+     * @param target the cell key of the target room
+     * @return the slot index, or -1 if the target is not cached
+     */
+    private int find(int target) {
+        Integer slot = slots.get(target);
+        return (slot == null) ? -1 : slot;
+    }
+}
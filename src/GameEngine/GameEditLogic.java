@@ -135,9 +135,8 @@ public class GameEditLogic {
                 // Create connection if wall is open or if wall is targeted by a lever
                 if (!isWall || isTarget) {
                     if (y > 0 && y < ROWS) {
-                        // Create bidirectional connection between vertically adjacent rooms
+                        // One connection serves both directions between vertically adjacent rooms
                         map.addConnection(x, y - 1, x, y, isTarget);
-                        map.addConnection(x, y, x, y - 1, isTarget);
                     }
                 }
             }
@@ -152,9 +151,8 @@ public class GameEditLogic {
                 // Create connection if wall is open or if wall is targeted by a lever
                 if (!isWall || isTarget) {
                     if (x > 0 && x < COLS) {
-                        // Create bidirectional connection between horizontally adjacent rooms
+                        // One connection serves both directions between horizontally adjacent rooms
                         map.addConnection(x - 1, y, x, y, isTarget);
-                        map.addConnection(x, y, x - 1, y, isTarget);
                     }
                 }
             }
@@ -176,24 +174,10 @@ public class GameEditLogic {
                         Room from = map.getRoom(c.getFrom().getX(), c.getFrom().getY());
                         Room to = map.getRoom(c.getTo().getX(), c.getTo().getY());
 
-                        // Find the corresponding connection in the new map and add it to new lever
-                        DataStructures.Iterator<Models.Connection> mapConnIt = map.getGraph().getConnections(from).iterator();
-                        while (mapConnIt.hasNext()) {
-                            Models.Connection mapConn = mapConnIt.next();
-                            if (mapConn.getTo() == to) {
-                                newLever.addTarget(mapConn);
-                                break;
-                            }
-                        }
-
-                        // Also add reverse connection if it exists
-                        DataStructures.Iterator<Models.Connection> mapConnIt2 = map.getGraph().getConnections(to).iterator();
-                        while (mapConnIt2.hasNext()) {
-                            Models.Connection mapConn = mapConnIt2.next();
-                            if (mapConn.getTo() == from) {
-                                newLever.addTarget(mapConn);
-                                break;
-                            }
+                        // The passage has one connection in the new map, covering both directions
+                        Models.Connection mapConn = map.getGraph().getConnection(from, to);
+                        if (mapConn != null) {
+                            newLever.addTarget(mapConn);
                         }
                     }
                     map.getRoom(x, y).setLever(newLever);
@@ -360,7 +344,7 @@ public class GameEditLogic {
                 var it = conns.iterator();
                 while (it.hasNext()) {
                     var conn = it.next();
-                    Room target = conn.getTo();
+                    Room target = conn.getOther(gameRoom);
                     int tx = target.getX();
                     int ty = target.getY();
 
@@ -538,13 +522,11 @@ public class GameEditLogic {
             r2 = grid[wallX][wallY];
         }
 
-        // Create bidirectional locked connections (wall can only be opened by lever toggle)
-        Models.Connection c1 = new Models.Connection(r1, r2, true, null);
-        Models.Connection c2 = new Models.Connection(r2, r1, true, null);
+        // Create a locked connection for the passage (wall can only be opened by lever toggle)
+        Models.Connection passage = new Models.Connection(r1, r2, true, null);
 
-        // Add both directions to lever's target list
-        lever.addTarget(c1);
-        lever.addTarget(c2);
+        // The single connection covers both directions of the passage
+        lever.addTarget(passage);
 
         // Clear pending state after successful link
         pendingLeverPos = null;
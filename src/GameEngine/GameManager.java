@@ -2,6 +2,9 @@ package GameEngine;
 
 import DataStructures.ArrayList.ArrayUnorderedList;
 import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Graph.FrozenGameGraph;
+import DataStructures.Graph.GameGraph;
+import DataStructures.HashSet.LinearProbingHashSet;
 import DataStructures.Iterator;
 import DataStructures.Queue.LinkedQueue;
 import DataStructures.Queue.QueueADT;
@@ -63,22 +66,19 @@ public class GameManager {
      */
     public void addPlayer(String name, boolean isBot, String characterType) {
         ArrayUnorderedList<Room> entrances = gameMap.getEntrances();
-        ArrayUnorderedList<Room> availableEntrances = new ArrayUnorderedList<>();
+        ArrayUnorderedList<Room> availableEntrances = new ArrayUnorderedList<>(entrances.size());
+
+        // Collect the occupied rooms once, so each entrance is checked in constant time
+        LinearProbingHashSet<Room> occupied = new LinearProbingHashSet<>(players.size());
+        Iterator<Player> playerIt = players.iterator();
+        while (playerIt.hasNext()) {
+            occupied.add(playerIt.next().getCurrentRoom());
+        }
 
         Iterator<Room> it = entrances.iterator();
         while (it.hasNext()) {
             Room entrance = it.next();
-            boolean occupied = false;
-
-            Iterator<Player> playerIt = players.iterator();
-            while (playerIt.hasNext()) {
-                if (playerIt.next().getCurrentRoom().equals(entrance)) {
-                    occupied = true;
-                    break;
-                }
-            }
-
-            if (!occupied) {
+            if (!occupied.contains(entrance)) {
                 availableEntrances.add(entrance);
             }
         }
@@ -187,26 +187,14 @@ public class GameManager {
             }
 
             // 1. Check for Lever in current room
-            if (bot.getCurrentRoom().hasLever()) {
-                Models.Lever lever = bot.getCurrentRoom().getLever();
-                boolean useful = false;
-                Iterator<Connection> targets = lever.getTargets().iterator();
-                while (targets.hasNext()) {
-                    if (targets.next().isLocked()) {
-                        useful = true;
-                        break;
-                    }
-                }
-
-                if (useful) {
-                    System.out.println("Bot found a useful lever. Pulling it.");
-                    interactWithLever();
-                    try {
-                        Thread.sleep(GameConfig.AI_WALK_DELAY);
-                    } catch (InterruptedException e) {
-                    }
-                    continue;
+            if (hasUsefulLever(bot.getCurrentRoom())) {
+                System.out.println("Bot found a useful lever. Pulling it.");
+                interactWithLever();
+                try {
+                    Thread.sleep(GameConfig.AI_WALK_DELAY);
+                } catch (InterruptedException e) {
                 }
+                continue;
             }
 
             // 2. Check if we should use Ender Pearl
@@ -294,23 +282,13 @@ public class GameManager {
             }
 
             // 4. Check if we should go for a Pickaxe
+            // Planning only reads the map, so it runs on the frozen snapshot,
+            // which is rebuilt only after a wall was broken
+            FrozenGameGraph plan = gameMap.getGraph().freeze();
             Room target = center;
             if (bot.getPickaxeCount() == 0 && currentDist > 10) {
-                int[][] distFromBot = gameMap.getDistancesTo(bot.getCurrentRoom());
-                ArrayUnorderedList<Room> pickaxes = gameMap.getPickaxeRooms();
-                Iterator<Room> it = pickaxes.iterator();
-
-                Room bestPickaxe = null;
-                int minPickaxeDist = Integer.MAX_VALUE;
-
-                while (it.hasNext()) {
-                    Room p = it.next();
-                    int d = distFromBot[p.getX()][p.getY()];
-                    if (d < 5 && d < minPickaxeDist) {
-                        minPickaxeDist = d;
-                        bestPickaxe = p;
-                    }
-                }
+                // Only pickaxes fewer than 5 steps away are worth the detour
+                Room bestPickaxe = plan.findNearest(bot.getCurrentRoom(), Room::hasPickaxe, 4);
 
                 if (bestPickaxe != null) {
                     target = bestPickaxe;
@@ -319,7 +297,7 @@ public class GameManager {
             }
 
             // 5. Calculate Path
-            Iterator<Room> pathIt = gameMap.getGraph().iteratorShortestPath(bot.getCurrentRoom(), target);
+            Iterator<Room> pathIt = plan.iteratorShortestPath(bot.getCurrentRoom(), target);
 
             if (pathIt.hasNext()) {
                 pathIt.next();
@@ -330,7 +308,7 @@ public class GameManager {
                 Room leverTarget = findNearestUsefulLever(bot.getCurrentRoom());
                 if (leverTarget != null) {
                     System.out.println("Bot " + bot.getName() + " is stuck! Going to lever at " + leverTarget.getX() + "," + leverTarget.getY());
-                    pathIt = gameMap.getGraph().iteratorShortestPath(bot.getCurrentRoom(), leverTarget);
+                    pathIt = plan.iteratorShortestPath(bot.getCurrentRoom(), leverTarget);
                     if (pathIt.hasNext()) {
                         pathIt.next();
                     }
@@ -366,41 +344,34 @@ public class GameManager {
     }
 
     /**
-     * Finds the nearest useful lever to the given room.
+     * Finds the nearest useful lever to the given room. The search expands
+     * outward from the room and stops at the first useful lever it reaches.
      *
      * @param start the starting room
      * @return the room containing the nearest useful lever, or null if none found
      */
     private Room findNearestUsefulLever(Room start) {
-        int[][] distances = gameMap.getDistancesTo(start);
-        Room bestLever = null;
-        int minDistance = Integer.MAX_VALUE;
-
-        for (int x = 0; x < gameMap.getWidth(); x++) {
-            for (int y = 0; y < gameMap.getHeight(); y++) {
-                Room r = gameMap.getRoom(x, y);
-                if (r.hasLever()) {
-                    int d = distances[x][y];
-                    if (d != Integer.MAX_VALUE && d < minDistance) {
-                        // Check if useful
-                        boolean useful = false;
-                        Iterator<Connection> targets = r.getLever().getTargets().iterator();
-                        while (targets.hasNext()) {
-                            if (targets.next().isLocked()) {
-                                useful = true;
-                                break;
-                            }
-                        }
+        return gameMap.getGraph().findNearest(start, this::hasUsefulLever);
+    }
 
-                        if (useful) {
-                            minDistance = d;
-                            bestLever = r;
-                        }
-                    }
-                }
+    /**
+     * Returns true if the room holds a lever that would unlock at least one
+     * currently locked connection.
+     *
+     * @param r the room to check
+     * @return true if pulling the lever in the room opens something
+     */
+    private boolean hasUsefulLever(Room r) {
+        if (!r.hasLever()) {
+            return false;
+        }
+        Iterator<Connection> targets = r.getLever().getTargets().iterator();
+        while (targets.hasNext()) {
+            if (targets.next().isLocked()) {
+                return true;
             }
         }
-        return bestLever;
+        return false;
     }
 
     // Get Random Neighbor (for stuck bots)
@@ -412,28 +383,22 @@ public class GameManager {
      * @return an iterator containing the random neighbor
      */
     private Iterator<Room> getRandomNeighbor(Room current) {
-        ArrayUnorderedList<Room> neighbors = new ArrayUnorderedList<>();
-        Iterator<Connection> it = gameMap.getGraph().getConnections(current).iterator();
-        while (it.hasNext()) {
-            Connection c = it.next();
-            if (!c.isLocked()) {
-                neighbors.add(c.getTo());
+        // Fill a small buffer and keep only the unlocked connections at its front
+        Connection[] conns = new Connection[GameGraph.MAX_ROOM_CONNECTIONS];
+        int connCount = gameMap.getGraph().getConnections(current, conns);
+        int open = 0;
+        for (int i = 0; i < connCount; i++) {
+            if (!conns[i].isLocked()) {
+                conns[open++] = conns[i];
             }
         }
 
-        if (!neighbors.isEmpty()) {
-            int idx = (int) (Math.random() * neighbors.size());
-
-            Iterator<Room> nIt = neighbors.iterator();
-            for (int i = 0; i < idx; i++) {
-                nIt.next();
-            }
-
-            ArrayUnorderedList<Room> path = new ArrayUnorderedList<>();
-            path.add(nIt.next());
-            return path.iterator();
+        ArrayUnorderedList<Room> path = new ArrayUnorderedList<>(1);
+        if (open > 0) {
+            int idx = (int) (Math.random() * open);
+            path.add(conns[idx].getOther(current));
         }
-        return new ArrayUnorderedList<Room>().iterator();
+        return path.iterator();
     }
 
     // ----------------------------------------------------------------
@@ -1034,14 +999,7 @@ public class GameManager {
      * @return the connection between the rooms, or null if none exists
      */
     private Connection getConnection(Room from, Room to) {
-        Iterator<Connection> it = gameMap.getGraph().getConnections(from).iterator();
-        while (it.hasNext()) {
-            Connection c = it.next();
-            if (c.getTo().equals(to)) {
-                return c;
-            }
-        }
-        return null;
+        return gameMap.getGraph().getConnection(from, to);
     }
 
     // Get Current Player Helper
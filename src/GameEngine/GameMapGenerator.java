@@ -1,7 +1,16 @@
 package GameEngine;
 
 import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.DisjointSet.DisjointSet;
+import DataStructures.Exceptions.EmptyCollectionException;
+import DataStructures.Graph.AStarPathfinder;
+import DataStructures.Graph.CorridorGraph;
 import DataStructures.Graph.GameGraph;
+import DataStructures.Graph.GridGraph;
+import DataStructures.Graph.GridGraphBuilder;
+import DataStructures.Graph.HierarchicalPathfinder;
+import DataStructures.PriorityQueue.IndexedMinPriorityQueue;
+import DataStructures.Queue.IntArrayQueue;
 import DataStructures.Stack.LinkedStack;
 import Models.Connection;
 import Models.Lever;
@@ -12,7 +21,7 @@ import Utils.GameConfig;
 /**
  * GameMapGenerator generates and manages the complete game map structure,
  * including rooms, connections between rooms, and item placement. Implements
- * a depth-first search based maze generation algorithm with optional braiding
+ * depth-first search and Kruskal based maze generation with optional braiding
  * to create cycles, ensuring varied and interconnected gameplay maps. Supports
  * automatic placement of levers, questions, pickaxes, and ender pearls, as well
  * as manual room and connection manipulation for map editing.
@@ -22,11 +31,26 @@ public class GameMapGenerator {
     // ----------------------------------------------------------------
     // Fields
     // ----------------------------------------------------------------
+    // Column and row offsets of the four neighbours: up, down, left, right
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+
     private Room[][] grid;
     private GameGraph graph;
     private int width;
     private int height;
     private String mapName;
+    private DistanceFieldCache distanceCache;
+    private BitParallelDistanceField distanceField;
+    // Epoch-stamped marks and heap reused by the incremental distance repair
+    private int[][] repairSeen;
+    private int[][] repairAffected;
+    private int repairEpoch;
+    private IndexedMinPriorityQueue repairQueue;
+    // Passages carved by generateMap, collected in bulk before the graph is built
+    private GridGraphBuilder layout;
+    // Connections of the room being expanded, filled by the graph during repairs
+    private final Connection[] repairConns = new Connection[GameGraph.MAX_ROOM_CONNECTIONS];
 
     /**
      * Constructor for GameMapGenerator.
@@ -53,14 +77,63 @@ public class GameMapGenerator {
         this.height = height;
         this.mapName = "Generated";
         this.grid = new Room[width][height];
-        this.graph = new GameGraph();
         if (generate) {
             generateMap();
             generateLevers();
             generateQuestions();
             generatePickaxes();
             generateEnderPearls();
+        } else {
+            useGraph(new GridGraph(width, height));
+        }
+    }
+
+    /**
+     * Creates a GameMapGenerator around the rooms and passages collected by a
+     * builder, for instance while loading a map file. The graph is built in one
+     * step at its final size instead of room by room.
+     *
+     * @param width the width of the map grid
+     * @param height the height of the map grid
+     * @param layout the builder holding the rooms and passages of the map
+     */
+    public GameMapGenerator(int width, int height, GridGraphBuilder layout) {
+        this.width = width;
+        this.height = height;
+        this.mapName = "Generated";
+        this.grid = new Room[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid[x][y] = layout.getRoom(x, y);
+            }
+        }
+        useGraph(layout.build());
+    }
+
+    /**
+     * Makes a grid graph the graph of this map, together with the pathfinding
+     * strategy, distance field and listener that depend on it.
+     *
+     * @param gridGraph the graph to use
+     */
+    private void useGraph(GridGraph gridGraph) {
+        this.graph = gridGraph;
+        // Every room sits on the grid, so A* with the Manhattan heuristic applies;
+        // on larger maps, searching junction to junction over contracted corridors
+        // pays off, and on the largest, searching over cluster portals first
+        if (width * height >= GameConfig.HIERARCHICAL_PATHFINDING_MIN_ROOMS) {
+            this.graph.setPathfindingStrategy(
+                    new HierarchicalPathfinder(gridGraph, GameConfig.HIERARCHICAL_CLUSTER_SIZE));
+        } else if (width * height >= GameConfig.CORRIDOR_PATHFINDING_MIN_ROOMS) {
+            this.graph.setPathfindingStrategy(new CorridorGraph(gridGraph));
+        } else {
+            this.graph.setPathfindingStrategy(new AStarPathfinder());
         }
+        this.distanceCache = new DistanceFieldCache(GameConfig.DISTANCE_FIELD_CACHE_SIZE);
+        this.distanceField = new BitParallelDistanceField(gridGraph);
+        // Wall breaks, lever toggles and the Redstone event all reach the graph,
+        // which reports each changed connection so cached fields can be repaired
+        this.graph.addTopologyListener(this::repairDistanceFields);
     }
 
     /**
@@ -139,114 +212,170 @@ public class GameMapGenerator {
     }
 
     /**
-     * Randomly places levers throughout the map with connected target connections.
-     * Attempts to place levers outside the central area with biased selection towards
-     * connections near the map center. Each lever controls forward and reverse connections,
-     * creating puzzle locks that control player movement. The process validates lever
-     * placement constraints to avoid entrance areas and invalid target connections.
+     * Places the levers of the map. Each lever locks one passage near the center,
+     * taken from a candidate set built once: the bridges of the maze first, in
+     * random order, since locking a passage with a braided detour around it
+     * blocks nothing, then the other passages if the bridges run out. The lever
+     * itself goes in a random room away from the center that every entrance can
+     * still reach with the new lock in place. Pulling the newest lever restores
+     * the state before its lock, so from any entrance all locks can be opened.
      */
     private void generateLevers() {
-        int count = 0;
         Random rand = new Random();
+        ArrayUnorderedList<Connection> bridges = new ArrayUnorderedList<>();
+        ArrayUnorderedList<Connection> others = new ArrayUnorderedList<>();
+        collectLeverTargets(bridges, others);
+
+        // Bridges come first, each group in random order
+        Connection[] candidates = new Connection[bridges.size() + others.size()];
+        for (int i = 0; i < bridges.size(); i++) {
+            candidates[i] = bridges.get(i);
+        }
+        for (int i = 0; i < others.size(); i++) {
+            candidates[bridges.size() + i] = others.get(i);
+        }
+        shuffle(candidates, 0, bridges.size(), rand);
+        shuffle(candidates, bridges.size(), candidates.length, rand);
+
+        ArrayUnorderedList<Room> entrances = getEntrances();
+        int count = 0;
+        for (int i = 0; i < candidates.length && count < GameConfig.LEVERS_COUNT; i++) {
+            Connection targetConn = candidates[i];
+
+            // Lock the passage first so the lever room is chosen on the side that stays reachable
+            targetConn.setLocked(true);
+            Room leverRoom = pickLeverRoom(rand, entrances);
+            if (leverRoom == null) {
+                targetConn.setLocked(false);
+                continue;
+            }
+
+            // The passage has a single Connection, so one target covers both directions
+            Lever lever = new Lever();
+            lever.addTarget(targetConn);
+            leverRoom.setLever(lever);
+            count++;
+        }
+    }
 
-        while (count < GameConfig.LEVERS_COUNT) {
-            // 1. Pick a random room for the lever, preferring areas away from center
+    /**
+     * Sorts the passages near the map center that may be locked by a lever into
+     * bridges and other passages, one connection per passage. Passages touching
+     * the center area or the outer ring of rooms (entrance areas) are skipped.
+     *
+     * @param bridges receives the passages that are bridges of the maze
+     * @param others receives the remaining candidate passages
+     */
+    private void collectLeverTargets(ArrayUnorderedList<Connection> bridges, ArrayUnorderedList<Connection> others) {
+        int centerX = width / 2;
+        int centerY = height / 2;
+        int range = Math.max(3, width / 3);
+        Connection[] conns = new Connection[GameGraph.MAX_ROOM_CONNECTIONS];
+
+        for (int x = Math.max(1, centerX - range); x <= Math.min(width - 2, centerX + range); x++) {
+            for (int y = Math.max(1, centerY - range); y <= Math.min(height - 2, centerY + range); y++) {
+                Room room = grid[x][y];
+                if (room.isCenter()) {
+                    continue;
+                }
+                int connCount = graph.getConnections(room, conns);
+                for (int i = 0; i < connCount; i++) {
+                    Room other = conns[i].getOther(room);
+                    // Take each passage once, from its right or lower room
+                    if (other.getX() > x || other.getY() > y) {
+                        continue;
+                    }
+                    if (other.isCenter() || other.getX() == 0 || other.getY() == 0) {
+                        continue;
+                    }
+                    if (graph.isCritical(conns[i])) {
+                        bridges.add(conns[i]);
+                    } else {
+                        others.add(conns[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks a random room for a lever: outside a quarter of the map width from
+     * the center, not special, without a lever, and reachable from every
+     * entrance through unlocked passages.
+     *
+     * @param rand the random source
+     * @param entrances the entrance rooms of the map
+     * @return a suitable room, or null if none was found after width * height tries
+     */
+    private Room pickLeverRoom(Random rand, ArrayUnorderedList<Room> entrances) {
+        for (int attempt = 0; attempt < width * height; attempt++) {
             int lx = rand.nextInt(width);
             int ly = rand.nextInt(height);
 
-            // Calculate distance from center using Euclidean distance formula
-            double dist = Math.sqrt(Math.pow(lx - width / 2.0, 2) + Math.pow(ly - height / 2.0, 2));
             // Skip if lever position is too close to center (within quarter of map width)
+            double dist = Math.sqrt(Math.pow(lx - width / 2.0, 2) + Math.pow(ly - height / 2.0, 2));
             if (dist < width / 4.0) {
                 continue;
             }
 
             Room leverRoom = grid[lx][ly];
-
             // Skip if room already has a lever or is a special area (entrance/center)
             if (leverRoom.hasLever() || leverRoom.isEntrance() || leverRoom.isCenter()) {
                 continue;
             }
 
-            // 2. Pick a random connection to lock (target connection near map center)
-            int centerX = width / 2;
-            int centerY = height / 2;
-            int range = Math.max(3, width / 3);
-
-            // Generate target coordinates within a range around the map center
-            int tx = centerX + (rand.nextInt(range * 2 + 1) - range);
-            int ty = centerY + (rand.nextInt(range * 2 + 1) - range);
-
-            // Clamp target coordinates to valid map bounds
-            if (tx < 0) tx = 0;
-            if (tx >= width) tx = width - 1;
-            if (ty < 0) ty = 0;
-            if (ty >= height) ty = height - 1;
-
-            Room targetRoom1 = grid[tx][ty];
-
-            // Skip if target room has no connections
-            if (graph.getConnections(targetRoom1).isEmpty()) {
-                continue;
-            }
-
-            // Randomly select one of the connections from target room
-            ArrayUnorderedList<Connection> conns = graph.getConnections(targetRoom1);
-            int cIdx = rand.nextInt(conns.size());
-            Connection targetConn = null;
-
-            DataStructures.Iterator<Connection> it = conns.iterator();
-            for (int i = 0; i <= cIdx; i++) {
-                if (it.hasNext()) {
-                    targetConn = it.next();
-                }
-            }
-
-            if (targetConn == null) {
-                continue;
-            }
-
-            Room targetRoom2 = targetConn.getTo();
-
-            // Skip if target connection leads to edge rooms (entrance areas)
-            if (targetRoom2.getX() == 0 || targetRoom2.getX() == width - 1
-                    || targetRoom2.getY() == 0 || targetRoom2.getY() == height - 1) {
-                continue;
-            }
-
-            // Skip if either target room is the center area
-            if (targetRoom1.isCenter() || targetRoom2.isCenter()) {
-                continue;
+            if (reachesAll(leverRoom, entrances)) {
+                return leverRoom;
             }
+        }
+        return null;
+    }
 
-            // 3. Create Lever and link both forward and reverse connections
-            Lever lever = new Lever();
-            // Add the forward connection (targetRoom1 -> targetRoom2)
-            lever.addTarget(targetConn);
-
-            // Find and add the reverse connection (targetRoom2 -> targetRoom1)
-            DataStructures.Iterator<Connection> itRev = graph.getConnections(targetRoom2).iterator();
-            while (itRev.hasNext()) {
-                Connection rev = itRev.next();
-                if (rev.getTo().equals(targetRoom1)) {
-                    lever.addTarget(rev);
-                    break;
-                }
+    /**
+     * Returns true if a room can reach every given room through unlocked passages.
+     *
+     * @param room the room to check
+     * @param targets the rooms that must be reachable
+     * @return true if every target is in the same unlocked component as the room
+     */
+    private boolean reachesAll(Room room, ArrayUnorderedList<Room> targets) {
+        for (int i = 0; i < targets.size(); i++) {
+            if (!graph.isConnected(room, targets.get(i))) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            leverRoom.setLever(lever);
-            count++;
+    /**
+     * Shuffles a range of an array in place with the Fisher-Yates algorithm.
+     *
+     * @param items the array to shuffle
+     * @param from the first index of the range
+     * @param to the index after the last one of the range
+     * @param rand the random source
+     */
+    private void shuffle(Connection[] items, int from, int to, Random rand) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + rand.nextInt(i - from + 1);
+            Connection tmp = items[i];
+            items[i] = items[j];
+            items[j] = tmp;
         }
     }
 
     /**
      * Generates the complete map structure including rooms, maze layout, and connections.
-     * Uses depth-first search starting from the center to create a spanning tree (perfect maze),
+     * Uses depth-first search starting from the center, or Kruskal's algorithm if
+     * GameConfig.KRUSKAL_MAZE is set, to create a spanning tree (perfect maze),
      * then opens the center area for easier navigation, and finally adds cycles (braiding)
      * to create multiple solution paths. The process ensures all rooms are connected while
-     * maintaining maze characteristics.
+     * maintaining maze characteristics. Rooms and passages are collected in a
+     * GridGraphBuilder and the graph is built once at the end, replacing the
+     * previous graph of this map.
      */
     public void generateMap() {
+        layout = new GridGraphBuilder(width, height);
         // 1. Create all rooms in the grid and add them to the graph
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
@@ -257,46 +386,16 @@ public class GameMapGenerator {
 
                 Room room = new Room(x + "," + y, x, y, isEntrance, isCenter);
                 grid[x][y] = room;
-                graph.addVertex(room);
+                layout.setRoom(room);
             }
         }
 
-        // 2. Generate Maze using Depth-First Search (DFS) starting from center
-        int centerX = width / 2;
-        int centerY = height / 2;
-        Room startRoom = grid[centerX][centerY];
-
-        boolean[][] visited = new boolean[width][height];
-        LinkedStack<Room> stack = new LinkedStack<>();
+        // 2. Carve a perfect maze (spanning tree) with the configured algorithm
         Random rand = new Random();
-
-        stack.push(startRoom);
-        visited[centerX][centerY] = true;
-
-        // DFS algorithm: visit unvisited neighbors and create connections
-        while (!stack.isEmpty()) {
-            try {
-                Room current = stack.peek();
-                // Get all unvisited neighbors (up, down, left, right)
-                ArrayUnorderedList<Room> neighbors = getUnvisitedNeighbors(current, visited);
-
-                if (!neighbors.isEmpty()) {
-                    // Randomly select one unvisited neighbor to carve a path to
-                    int idx = rand.nextInt(neighbors.size());
-                    Room next = neighbors.get(idx);
-
-                    // Create bidirectional connection (maze path)
-                    graph.addEdge(current, next, new Connection(current, next, false, null));
-
-                    visited[next.getX()][next.getY()] = true;
-                    stack.push(next);
-                } else {
-                    // Backtrack when no unvisited neighbors remain
-                    stack.pop();
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+        if (GameConfig.KRUSKAL_MAZE) {
+            carveMazeKruskal(rand);
+        } else {
+            carveMazeDFS(rand);
         }
 
         // 3. Open Center Area - connect all center rooms to each other
@@ -307,14 +406,14 @@ public class GameMapGenerator {
                 if (x < width / 2 + 1) {
                     Room right = grid[x + 1][y];
                     if (!isConnected(r, right)) {
-                        graph.addEdge(r, right, new Connection(r, right, false, null));
+                        openPassage(r, right);
                     }
                 }
                 // Open downward connections in center area
                 if (y < height / 2 + 1) {
                     Room down = grid[x][y + 1];
                     if (!isConnected(r, down)) {
-                        graph.addEdge(r, down, new Connection(r, down, false, null));
+                        openPassage(r, down);
                     }
                 }
             }
@@ -330,7 +429,7 @@ public class GameMapGenerator {
                     if (!isConnected(r, right)) {
                         // Add connection with 10% probability, but only if it won't create a small square
                         if (rand.nextDouble() < 0.1 && !createsSquare(r, right)) {
-                            graph.addEdge(r, right, new Connection(r, right, false, null));
+                            openPassage(r, right);
                         }
                     }
                 }
@@ -340,12 +439,108 @@ public class GameMapGenerator {
                     if (!isConnected(r, down)) {
                         // Add connection with 10% probability, but only if it won't create a small square
                         if (rand.nextDouble() < 0.1 && !createsSquare(r, down)) {
-                            graph.addEdge(r, down, new Connection(r, down, false, null));
+                            openPassage(r, down);
                         }
                     }
                 }
             }
         }
+
+        useGraph(layout.build());
+        layout = null;
+    }
+
+    /**
+     * Carves a perfect maze with a randomised depth-first search (recursive
+     * backtracker) started from the center room. Produces long winding
+     * corridors with few branches.
+     *
+     * @param rand the random source used to pick the next neighbour
+     */
+    private void carveMazeDFS(Random rand) {
+        int centerX = width / 2;
+        int centerY = height / 2;
+        Room startRoom = grid[centerX][centerY];
+
+        boolean[][] visited = new boolean[width][height];
+        LinkedStack<Room> stack = new LinkedStack<>();
+
+        stack.push(startRoom);
+        visited[centerX][centerY] = true;
+
+        // DFS algorithm: visit unvisited neighbors and create connections
+        while (!stack.isEmpty()) {
+            try {
+                Room current = stack.peek();
+                // Get all unvisited neighbors (up, down, left, right)
+                ArrayUnorderedList<Room> neighbors = getUnvisitedNeighbors(current, visited);
+
+                if (!neighbors.isEmpty()) {
+                    // Randomly select one unvisited neighbor to carve a path to
+                    int idx = rand.nextInt(neighbors.size());
+                    Room next = neighbors.get(idx);
+
+                    // Create bidirectional connection (maze path)
+                    openPassage(current, next);
+
+                    visited[next.getX()][next.getY()] = true;
+                    stack.push(next);
+                } else {
+                    // Backtrack when no unvisited neighbors remain
+                    stack.pop();
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Carves a perfect maze with randomised Kruskal's algorithm. Every wall
+     * between two adjacent rooms is visited once in random order, and removed
+     * only if the rooms on each side are not yet joined, which a DisjointSet over
+     * the cells answers in O(α(n)) time. Stops after width * height - 1 passages,
+     * when every room is joined. Produces many short dead ends and branches
+     * spread evenly over the map, unlike the long corridors of carveMazeDFS.
+     *
+     * @param rand the random source used to shuffle the walls
+     */
+    private void carveMazeKruskal(Random rand) {
+        // Wall w separates cell w / 2 from its right (w even) or lower (w odd) neighbour
+        int[] walls = new int[width * height * 2];
+        int wallCount = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                if (x < width - 1) {
+                    walls[wallCount++] = cell * 2;
+                }
+                if (y < height - 1) {
+                    walls[wallCount++] = cell * 2 + 1;
+                }
+            }
+        }
+
+        // Fisher-Yates shuffle
+        for (int i = wallCount - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = walls[i];
+            walls[i] = walls[j];
+            walls[j] = tmp;
+        }
+
+        DisjointSet cells = new DisjointSet(width * height);
+        int passagesLeft = width * height - 1;
+        for (int i = 0; i < wallCount && passagesLeft > 0; i++) {
+            int cell = walls[i] / 2;
+            int other = (walls[i] % 2 == 0) ? cell + 1 : cell + width;
+            if (cells.union(cell, other)) {
+                Room r1 = grid[cell % width][cell / width];
+                Room r2 = grid[other % width][other / width];
+                openPassage(r1, r2);
+                passagesLeft--;
+            }
+        }
     }
 
     /**
@@ -413,7 +608,7 @@ public class GameMapGenerator {
      * @return a list of unvisited neighboring rooms
      */
     private ArrayUnorderedList<Room> getUnvisitedNeighbors(Room r, boolean[][] visited) {
-        ArrayUnorderedList<Room> list = new ArrayUnorderedList<>();
+        ArrayUnorderedList<Room> list = new ArrayUnorderedList<>(4);
         int x = r.getX();
         int y = r.getY();
         // Define four cardinal directions: down, up, right, left
@@ -431,16 +626,31 @@ public class GameMapGenerator {
     }
 
     /**
-     * Checks if two rooms are directly connected by a path.
+     * Checks if two rooms are directly connected by a path. While generateMap
+     * is running, the passages carved so far are read from the layout builder.
      *
      * @param r1 the first room
      * @param r2 the second room
      * @return true if a connection exists between the rooms, false otherwise
      */
     private boolean isConnected(Room r1, Room r2) {
+        if (layout != null) {
+            return layout.hasPassage(r1, r2);
+        }
         return graph.getConnection(r1, r2) != null;
     }
 
+    /**
+     * Carves an unlocked passage between two adjacent rooms into the layout
+     * being generated.
+     *
+     * @param r1 the first room
+     * @param r2 the second room
+     */
+    private void openPassage(Room r1, Room r2) {
+        layout.addPassage(new Connection(r1, r2, false, null));
+    }
+
     /**
      * Retrieves the room at the specified grid coordinates.
      *
@@ -461,7 +671,7 @@ public class GameMapGenerator {
      * @return a list containing the four entrance room corners
      */
     public ArrayUnorderedList<Room> getEntrances() {
-        ArrayUnorderedList<Room> entrances = new ArrayUnorderedList<>();
+        ArrayUnorderedList<Room> entrances = new ArrayUnorderedList<>(4);
         entrances.add(grid[0][0]);
         entrances.add(grid[width - 1][0]);
         entrances.add(grid[0][height - 1]);
@@ -471,6 +681,7 @@ public class GameMapGenerator {
 
     /**
      * Retrieves the underlying game graph containing all rooms and connections.
+     * Maps are stored in a GridGraph, so memory grows linearly with the grid size.
      *
      * @return the GameGraph representing the map structure
      */
@@ -497,8 +708,10 @@ public class GameMapGenerator {
     }
 
     /**
-     * Adds a directional connection between two rooms specified by coordinates.
-     * Used when loading maps from files to reconstruct the path network.
+     * Adds a passage between two rooms specified by coordinates. Used when
+     * loading maps from files to reconstruct the path network. Adding a passage
+     * that already exists, for instance from its other side, keeps the stored
+     * connection and only locks it if isLocked is true.
      *
      * @param fromX the x-coordinate of the starting room
      * @param fromY the y-coordinate of the starting room
@@ -614,12 +827,61 @@ public class GameMapGenerator {
      * making it useful for pathfinding when some doors are locked. Returns a 2D
      * array where each element represents the distance to that room, or Integer.MAX_VALUE
      * if unreachable.
+     * Fields are cached per target and reused for as long as the topology version
+     * of the map is unchanged, so repeated queries in an unchanged maze cost O(1).
+     * When a wall is broken or a lever toggles a lock, cached fields are repaired
+     * in place instead of being recomputed, so a returned array keeps reflecting
+     * the current maze. It is shared with the cache and must not be modified.
      *
      * @param target the target room to calculate distances from
      * @return a 2D array where dist[x][y] is the shortest distance to room at (x,y),
      *         or Integer.MAX_VALUE if the room is unreachable from target
      */
     public int[][] getDistancesTo(Room target) {
+        int key = target.getX() * height + target.getY();
+        long version = graph.getTopologyVersion();
+
+        int[][] cached = distanceCache.get(key, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        int[][] dist = computeDistancesTo(target);
+        distanceCache.put(key, version, dist);
+        return dist;
+    }
+
+    /**
+     * Returns a counter that changes whenever the walls or lever locks of this map
+     * change (wall breaks, lever toggles, the Redstone Block event, editing).
+     *
+     * @return the current topology version of the map
+     */
+    public long getTopologyVersion() {
+        return graph.getTopologyVersion();
+    }
+
+    /**
+     * Computes the distance field of a target room from scratch. The grid graph
+     * keeps one passability bitplane per direction, so the breadth-first search
+     * advances whole words of cells per step instead of one room at a time.
+     *
+     * @param target the target room to calculate distances from
+     * @return a 2D array of distances to the target, Integer.MAX_VALUE where unreachable
+     */
+    private int[][] computeDistancesTo(Room target) {
+        return distanceField.compute(target.getX(), target.getY());
+    }
+
+    /**
+     * Runs a breadth-first search from the target room over unlocked connections,
+     * one room at a time, and returns the resulting distance field. This is the
+     * reference the bit-parallel search is checked and timed against.
+     *
+     * @param target the target room to calculate distances from
+     * @return a 2D array of distances to the target, Integer.MAX_VALUE where unreachable
+     */
+    int[][] computeDistancesByQueue(Room target) {
         // Initialize distance array with maximum values (unreachable)
         int[][] dist = new int[width][height];
         for (int x = 0; x < width; x++) {
@@ -628,28 +890,33 @@ public class GameMapGenerator {
             }
         }
 
-        // Set target distance to 0 and start BFS from target room
+        // Set target distance to 0 and start BFS from target room.
+        // Rooms are queued by their cell key (x * height + y), so no node or boxed
+        // Integer is allocated per visited room.
         dist[target.getX()][target.getY()] = 0;
-        DataStructures.Queue.LinkedQueue<Room> queue = new DataStructures.Queue.LinkedQueue<>();
-        queue.enqueue(target);
+        IntArrayQueue queue = new IntArrayQueue(width * height);
+        queue.enqueueInt(target.getX() * height + target.getY());
 
         // Process rooms in queue, calculating distances to neighbors
         while (!queue.isEmpty()) {
             try {
-                Room u = queue.dequeue();
-                
-                // Check all connections from current room
-                DataStructures.Iterator<Connection> it = graph.getConnections(u).iterator();
-                while (it.hasNext()) {
-                    Connection c = it.next();
-                    // Skip locked connections - they cannot be traversed
-                    if (c.isLocked()) continue;
-                    Room v = c.getTo();
-                    // If neighbor hasn't been visited, calculate its distance and enqueue it
-                    if (dist[v.getX()][v.getY()] == Integer.MAX_VALUE) {
-                        dist[v.getX()][v.getY()] = dist[u.getX()][u.getY()] + 1;
-                        queue.enqueue(v);
+                int key = queue.dequeueInt();
+                int ux = key / height;
+                int uy = key % height;
+                Room u = grid[ux][uy];
+
+                // Check the connection towards each of the four neighbours
+                for (int d = 0; d < 4; d++) {
+                    int vx = ux + DX[d];
+                    int vy = uy + DY[d];
+                    if (vx < 0 || vx >= width || vy < 0 || vy >= height || dist[vx][vy] != Integer.MAX_VALUE) {
+                        continue;
                     }
+                    Connection c = graph.getConnection(u, grid[vx][vy]);
+                    // Skip missing and locked connections - they cannot be traversed
+                    if (c == null || c.isLocked()) continue;
+                    dist[vx][vy] = dist[ux][uy] + 1;
+                    queue.enqueueInt(vx * height + vy);
                 }
             } catch (Exception e) {
                 e.printStackTrace();
@@ -658,6 +925,227 @@ public class GameMapGenerator {
         return dist;
     }
 
+    // ----------------------------------------------------------------
+    // Incremental Distance Repair
+    // ----------------------------------------------------------------
+    /**
+     * Topology listener of the map graph. Repairs every cached distance field that
+     * was current before the change, so a single wall break or lever toggle does
+     * not force a full BFS for each cached target.
+     *
+     * @param from the source room of the changed connection
+     * @param to the destination room of the changed connection
+     * @param traversable true if the connection now exists and is unlocked
+     */
+    private void repairDistanceFields(Room from, Room to, boolean traversable) {
+        long version = graph.getTopologyVersion();
+        distanceCache.advance(version - 1, version, dist -> repairDistances(dist, from, to));
+    }
+
+    /**
+     * Updates one distance field after the connection from one room to an adjacent
+     * room changed. The fields are built by expanding outward from the target, so
+     * that connection can only lower or raise the distance of its destination room
+     * and of the rooms whose shortest paths run through it.
+     *
+     * @param dist the distance field to repair
+     * @param from the source room of the changed connection
+     * @param to the destination room of the changed connection
+     */
+    private synchronized void repairDistances(int[][] dist, Room from, Room to) {
+        // Read the current state from the graph rather than trusting the event
+        Connection c = graph.getConnection(from, to);
+        if (c != null && !c.isLocked()) {
+            propagateDecrease(dist, from, to);
+        } else {
+            propagateIncrease(dist, from, to);
+        }
+    }
+
+    /**
+     * Handles a connection that became traversable. If it gives its destination a
+     * shorter distance, the decrease is pushed outward breadth-first, touching only
+     * rooms whose distance actually drops.
+     *
+     * @param dist the distance field to repair
+     * @param from the source room of the opened connection
+     * @param to the destination room of the opened connection
+     */
+    private void propagateDecrease(int[][] dist, Room from, Room to) {
+        int fromDist = dist[from.getX()][from.getY()];
+        if (fromDist == Integer.MAX_VALUE || fromDist + 1 >= dist[to.getX()][to.getY()]) {
+            return;
+        }
+
+        dist[to.getX()][to.getY()] = fromDist + 1;
+        IntArrayQueue queue = new IntArrayQueue();
+        queue.enqueueInt(to.getX() * height + to.getY());
+
+        while (!queue.isEmpty()) {
+            int key;
+            try {
+                key = queue.dequeueInt();
+            } catch (EmptyCollectionException e) {
+                break;
+            }
+            Room u = grid[key / height][key % height];
+            int next = dist[u.getX()][u.getY()] + 1;
+
+            int connCount = graph.getConnections(u, repairConns);
+            for (int c = 0; c < connCount; c++) {
+                Connection out = repairConns[c];
+                if (out.isLocked()) continue;
+                Room v = out.getOther(u);
+                // Only rooms that get strictly closer are updated and expanded
+                if (next < dist[v.getX()][v.getY()]) {
+                    dist[v.getX()][v.getY()] = next;
+                    queue.enqueueInt(v.getX() * height + v.getY());
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles a connection that is no longer traversable. If its destination lost
+     * its only shortest-path parent, the rooms that depended on it are collected
+     * level by level, invalidated, and re-settled from the unaffected rooms around
+     * them with Dijkstra's algorithm restricted to the affected set.
+     *
+     * @param dist the distance field to repair
+     * @param from the source room of the closed connection
+     * @param to the destination room of the closed connection
+     */
+    private void propagateIncrease(int[][] dist, Room from, Room to) {
+        int fromDist = dist[from.getX()][from.getY()];
+        if (fromDist == Integer.MAX_VALUE || dist[to.getX()][to.getY()] != fromDist + 1) {
+            return;
+        }
+
+        prepareRepair();
+        if (hasParent(dist, to)) {
+            return;
+        }
+
+        // Collect the affected subtree. Rooms are checked in increasing distance
+        // order, so every possible parent of a room is decided before the room is.
+        ArrayUnorderedList<Room> affected = new ArrayUnorderedList<>();
+        IntArrayQueue queue = new IntArrayQueue();
+        queue.enqueueInt(to.getX() * height + to.getY());
+
+        while (!queue.isEmpty()) {
+            int key;
+            try {
+                key = queue.dequeueInt();
+            } catch (EmptyCollectionException e) {
+                break;
+            }
+            Room u = grid[key / height][key % height];
+            if (repairSeen[u.getX()][u.getY()] == repairEpoch) continue;
+            repairSeen[u.getX()][u.getY()] = repairEpoch;
+            if (u != to && hasParent(dist, u)) continue;
+
+            repairAffected[u.getX()][u.getY()] = repairEpoch;
+            affected.add(u);
+
+            int connCount = graph.getConnections(u, repairConns);
+            for (int c = 0; c < connCount; c++) {
+                Connection out = repairConns[c];
+                if (out.isLocked()) continue;
+                Room v = out.getOther(u);
+                if (dist[v.getX()][v.getY()] == dist[u.getX()][u.getY()] + 1) {
+                    queue.enqueueInt(v.getX() * height + v.getY());
+                }
+            }
+        }
+
+        // Seed every affected room with its best distance through an unaffected neighbour
+        for (int i = 0; i < affected.size(); i++) {
+            Room u = affected.get(i);
+            dist[u.getX()][u.getY()] = Integer.MAX_VALUE;
+        }
+        for (int i = 0; i < affected.size(); i++) {
+            Room u = affected.get(i);
+            int best = Integer.MAX_VALUE;
+            int connCount = graph.getConnections(u, repairConns);
+            for (int c = 0; c < connCount; c++) {
+                Room w = repairConns[c].getOther(u);
+                int wDist = dist[w.getX()][w.getY()];
+                if (wDist != Integer.MAX_VALUE && wDist + 1 < best && !repairConns[c].isLocked()) {
+                    best = wDist + 1;
+                }
+            }
+            if (best != Integer.MAX_VALUE) {
+                dist[u.getX()][u.getY()] = best;
+                repairQueue.insert(u.getX() * height + u.getY(), best);
+            }
+        }
+
+        // Settle the affected rooms, relaxing only connections into the affected set
+        while (!repairQueue.isEmpty()) {
+            int key;
+            try {
+                key = repairQueue.deleteMin();
+            } catch (EmptyCollectionException e) {
+                break;
+            }
+            Room u = grid[key / height][key % height];
+            int next = dist[u.getX()][u.getY()] + 1;
+
+            int connCount = graph.getConnections(u, repairConns);
+            for (int c = 0; c < connCount; c++) {
+                Connection out = repairConns[c];
+                if (out.isLocked()) continue;
+                Room v = out.getOther(u);
+                if (repairAffected[v.getX()][v.getY()] != repairEpoch || next >= dist[v.getX()][v.getY()]) {
+                    continue;
+                }
+                int vKey = v.getX() * height + v.getY();
+                if (dist[v.getX()][v.getY()] == Integer.MAX_VALUE) {
+                    repairQueue.insert(vKey, next);
+                } else {
+                    repairQueue.decreaseKey(vKey, next);
+                }
+                dist[v.getX()][v.getY()] = next;
+            }
+        }
+    }
+
+    /**
+     * Returns true if a room still has a neighbour outside the affected set that
+     * is exactly one step closer to the target through an unlocked connection.
+     *
+     * @param dist the distance field being repaired
+     * @param room the room to check
+     * @return true if the distance of the room is still supported
+     */
+    private boolean hasParent(int[][] dist, Room room) {
+        int parentDist = dist[room.getX()][room.getY()] - 1;
+        int connCount = graph.getConnections(room, repairConns);
+        for (int c = 0; c < connCount; c++) {
+            Room w = repairConns[c].getOther(room);
+            if (dist[w.getX()][w.getY()] == parentDist
+                    && repairAffected[w.getX()][w.getY()] != repairEpoch
+                    && !repairConns[c].isLocked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts a new repair pass: advances the mark epoch so old marks become stale
+     * without clearing the arrays, allocating the reusable buffers on first use.
+     */
+    private void prepareRepair() {
+        if (repairSeen == null) {
+            repairSeen = new int[width][height];
+            repairAffected = new int[width][height];
+            repairQueue = new IndexedMinPriorityQueue(width * height);
+        }
+        repairEpoch++;
+        repairQueue.clear();
+    }
+
     public static void main(String[] args) {
         System.out.println("Generating maps...");
         for (int i = 0; i < 5; i++) {
@@ -1,6 +1,7 @@
 package GameEngine;
 
 import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.Graph.GridGraphBuilder;
 import Models.Connection;
 import Models.Lever;
 import Models.Random;
@@ -115,7 +116,8 @@ public class GameMapLoader {
         int width = (wStr != null) ? Integer.parseInt(wStr) : 21;
         int height = (hStr != null) ? Integer.parseInt(hStr) : 21;
 
-        GameMapGenerator map = new GameMapGenerator(width, height, false);
+        // Rooms and connections are collected first and the graph is built once
+        GridGraphBuilder layout = new GridGraphBuilder(width, height);
 
         // Parse Rooms array and populate map grid
         String roomsJson = extractArray(json, "rooms");
@@ -136,7 +138,7 @@ public class GameMapLoader {
                 room.setHasQuestion(hasQuestion);
                 room.setHasPickaxe(hasPickaxe);
                 room.setHasEnderPearl(hasEnderPearl);
-                map.setRoom(x, y, room);
+                layout.setRoom(room);
             }
         }
 
@@ -152,9 +154,14 @@ public class GameMapLoader {
                 int toY = Integer.parseInt(extractValue(obj, "toY"));
                 boolean isLocked = Boolean.parseBoolean(extractValue(obj, "isLocked"));
 
-                map.addConnection(fromX, fromY, toX, toY, isLocked);
+                Room from = layout.getRoom(fromX, fromY);
+                Room to = layout.getRoom(toX, toY);
+                if (from != null && to != null) {
+                    layout.addPassage(new Connection(from, to, isLocked, null));
+                }
             }
         }
+        GameMapGenerator map = new GameMapGenerator(width, height, layout);
 
         // Parse Levers array and connect them to their target connections
         String leversJson = extractArray(json, "levers");
@@ -185,15 +192,11 @@ public class GameMapLoader {
                         Room from = map.getRoom(fromX, fromY);
                         Room to = map.getRoom(toX, toY);
 
-                        // Find the connection matching the target rooms and add it to lever
+                        // Look up the passage between the target rooms and add it to lever
                         if (from != null && to != null) {
-                            DataStructures.Iterator<Connection> it = map.getGraph().getConnections(from).iterator();
-                            while (it.hasNext()) {
-                                Connection c = it.next();
-                                if (c.getTo().equals(to)) {
-                                    lever.addTarget(c);
-                                    break;
-                                }
+                            Connection c = map.getGraph().getConnection(from, to);
+                            if (c != null) {
+                                lever.addTarget(c);
                             }
                         }
                     }
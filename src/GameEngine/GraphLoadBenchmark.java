@@ -0,0 +1,240 @@
+package GameEngine;
+
+import DataStructures.Graph.GameGraph;
+import DataStructures.Graph.GameGraphBuilder;
+import DataStructures.Graph.GridGraphBuilder;
+import Models.Connection;
+import Models.Room;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * GraphLoadBenchmark compares building a map graph room by room, as the loader
+ * and generator used to, with building it in one step through GameGraphBuilder
+ * and GridGraphBuilder. The layout of a generated maze is taken apart into rooms
+ * and passages, and each way of building is timed and measured for the bytes it
+ * allocates and the peak heap it needs. Passages are added from both sides on
+ * the room-by-room grid path, as in the map files written before passages were
+ * stored once.
+ */
+public class GraphLoadBenchmark {
+
+    private static final int[] MATRIX_SIZES = {21, 41, 61};
+    private static final int[] GRID_SIZES = {21, 64, 256};
+
+    public static void main(String[] args) {
+        System.out.println("graph\tsize\tpath\ttime (ms)\tallocated (bytes)\tpeak heap (bytes)");
+        for (int size : MATRIX_SIZES) {
+            GameMapGenerator source = new GameMapGenerator(size, size, false);
+            source.generateMap();
+            Room[] rooms = rooms(source);
+            Connection[] passages = passages(source);
+            measure("matrix", size, "incremental", () -> buildIncrementally(rooms, passages));
+            measure("matrix", size, "builder", () -> buildWithBuilder(rooms, passages));
+        }
+        for (int size : GRID_SIZES) {
+            GameMapGenerator source = new GameMapGenerator(size, size, false);
+            source.generateMap();
+            Room[] rooms = rooms(source);
+            Connection[] passages = passages(source);
+            measure("grid", size, "incremental", () -> loadIncrementally(size, rooms, passages));
+            measure("grid", size, "builder", () -> loadWithBuilder(size, rooms, passages));
+        }
+    }
+
+    /**
+     * Runs one way of building a graph until the timings settle, then prints its
+     * average time, the bytes one build allocates and the peak heap one build needs.
+     *
+     * @param graph the kind of graph being built
+     * @param size the side of the square map
+     * @param path the name of the way of building
+     * @param build the build to measure
+     */
+    private static void measure(String graph, int size, String path, Runnable build) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int repeats = Math.max(3, 200_000 / (size * size));
+
+        // Warm up so class loading and JIT work are not counted
+        for (int i = 0; i < repeats; i++) {
+            build.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < repeats; i++) {
+            build.run();
+        }
+        double ms = (System.nanoTime() - start) / 1e6 / repeats;
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        build.run();
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        System.gc();
+        long baseline = heapUsed();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        build.run();
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+
+        System.out.printf("%s\t%dx%d\t%s\t%.3f\t%,d\t%,d%n", graph, size, size, path, ms, allocated,
+                Math.max(0, peak - baseline));
+    }
+
+    /**
+     * Returns the heap currently in use, summed over the heap memory pools.
+     *
+     * @return the used heap in bytes
+     */
+    private static long heapUsed() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Builds a matrix-backed GameGraph room by room and passage by passage,
+     * letting its matrices grow from the default capacity.
+     *
+     * @param rooms the rooms of the map
+     * @param passages the passages of the map
+     * @return the built graph
+     */
+    private static GameGraph buildIncrementally(Room[] rooms, Connection[] passages) {
+        GameGraph graph = new GameGraph();
+        for (Room room : rooms) {
+            graph.addVertex(room);
+        }
+        for (Connection passage : passages) {
+            graph.addEdge(passage.getFrom(), passage.getTo(), copy(passage));
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a matrix-backed GameGraph through a GameGraphBuilder sized for the map.
+     *
+     * @param rooms the rooms of the map
+     * @param passages the passages of the map
+     * @return the built graph
+     */
+    private static GameGraph buildWithBuilder(Room[] rooms, Connection[] passages) {
+        GameGraphBuilder builder = new GameGraphBuilder(rooms.length, passages.length);
+        builder.addRooms(rooms);
+        for (Connection passage : passages) {
+            builder.addPassage(copy(passage));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Loads a grid map the way GameMapLoader used to: an empty map, then every
+     * room through setRoom and every passage from both of its sides through
+     * addConnection.
+     *
+     * @param size the side of the square map
+     * @param rooms the rooms of the map
+     * @param passages the passages of the map
+     * @return the loaded map
+     */
+    private static GameMapGenerator loadIncrementally(int size, Room[] rooms, Connection[] passages) {
+        GameMapGenerator map = new GameMapGenerator(size, size, false);
+        for (Room room : rooms) {
+            map.setRoom(room.getX(), room.getY(), room);
+        }
+        for (Connection passage : passages) {
+            Room from = passage.getFrom();
+            Room to = passage.getTo();
+            map.addConnection(from.getX(), from.getY(), to.getX(), to.getY(), passage.isLocked());
+            map.addConnection(to.getX(), to.getY(), from.getX(), from.getY(), passage.isLocked());
+        }
+        return map;
+    }
+
+    /**
+     * Loads a grid map the way GameMapLoader does now, through a GridGraphBuilder.
+     *
+     * @param size the side of the square map
+     * @param rooms the rooms of the map
+     * @param passages the passages of the map
+     * @return the loaded map
+     */
+    private static GameMapGenerator loadWithBuilder(int size, Room[] rooms, Connection[] passages) {
+        GridGraphBuilder layout = new GridGraphBuilder(size, size);
+        for (Room room : rooms) {
+            layout.setRoom(room);
+        }
+        for (Connection passage : passages) {
+            layout.addPassage(copy(passage));
+        }
+        return new GameMapGenerator(size, size, layout);
+    }
+
+    /**
+     * Returns a fresh connection for the same passage, since a connection can
+     * belong to one graph at a time.
+     *
+     * @param passage the passage to copy
+     * @return a new connection between the same rooms
+     */
+    private static Connection copy(Connection passage) {
+        return new Connection(passage.getFrom(), passage.getTo(), passage.isLocked(), passage.getKey());
+    }
+
+    /**
+     * Returns every room of a map, row by row.
+     *
+     * @param map the map
+     * @return the rooms of the map
+     */
+    private static Room[] rooms(GameMapGenerator map) {
+        Room[] rooms = new Room[map.getWidth() * map.getHeight()];
+        int count = 0;
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                rooms[count++] = map.getRoom(x, y);
+            }
+        }
+        return rooms;
+    }
+
+    /**
+     * Returns every passage of a map once.
+     *
+     * @param map the map
+     * @return the passages of the map
+     */
+    private static Connection[] passages(GameMapGenerator map) {
+        GameGraph graph = map.getGraph();
+        Connection[] conns = new Connection[GameGraph.MAX_ROOM_CONNECTIONS];
+        Connection[] passages = new Connection[map.getWidth() * map.getHeight() * 2];
+        int count = 0;
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                Room room = map.getRoom(x, y);
+                int connCount = graph.getConnections(room, conns);
+                for (int i = 0; i < connCount; i++) {
+                    if (conns[i].getFrom() == room) {
+                        passages[count++] = conns[i];
+                    }
+                }
+            }
+        }
+        return java.util.Arrays.copyOf(passages, count);
+    }
+}
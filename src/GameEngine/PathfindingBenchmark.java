@@ -0,0 +1,194 @@
+package GameEngine;
+
+import DataStructures.Graph.AStarPathfinder;
+import DataStructures.Graph.CorridorGraph;
+import DataStructures.Graph.GridGraph;
+import DataStructures.Graph.HierarchicalPathfinder;
+import DataStructures.Graph.PathfindingStrategy;
+import DataStructures.Iterator;
+import Models.Room;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Random;
+
+/**
+ * PathfindingBenchmark compares flat A* with A* over the contracted corridor
+ * graph and with the hierarchical pathfinder on generated mazes of growing
+ * size. All of them answer the same random queries, and their path lengths are
+ * checked against flat A* first. The benchmark reports two latencies per
+ * query: taking the first step, as a bot that replans every move does, and
+ * walking the whole path. It also reports the bytes a query allocates, the time
+ * to build each abstraction, and the heap the abstraction keeps. Large mazes
+ * need a big heap, e.g. {@code java -Xmx4g GameEngine.PathfindingBenchmark}.
+ */
+public class PathfindingBenchmark {
+
+    private static final int[] SIZES = {128, 256, 512, 1024};
+    private static final int[] CLUSTER_SIZES = {16, 32};
+    private static final int QUERIES = 200;
+
+    public static void main(String[] args) {
+        System.out.println("size\tpathfinder\tbuild (ms)\tretained (bytes)\tfirst step (us)\tfull path (us)\tallocated/query (bytes)");
+        for (int size : SIZES) {
+            GameMapGenerator map = new GameMapGenerator(size, size, false);
+            map.generateMap();
+            GridGraph grid = (GridGraph) map.getGraph();
+            Random random = new Random(size);
+            int[] starts = new int[QUERIES];
+            int[] targets = new int[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                starts[i] = random.nextInt(size * size);
+                targets[i] = random.nextInt(size * size);
+            }
+
+            AStarPathfinder flat = new AStarPathfinder();
+            measure(size, "A*", grid, flat, starts, targets, 0, 0);
+
+            System.gc();
+            long corridorBefore = heapUsed();
+            long corridorStart = System.nanoTime();
+            CorridorGraph corridors = new CorridorGraph(grid);
+            double corridorMs = (System.nanoTime() - corridorStart) / 1e6;
+            System.gc();
+            long corridorRetained = Math.max(0, heapUsed() - corridorBefore);
+            if (!samePathLengths(grid, flat, corridors, starts, targets)) {
+                System.out.println(size + "\tpath lengths differ");
+                return;
+            }
+            measure(size, "corridors", grid, corridors, starts, targets, corridorMs, corridorRetained);
+            grid.removeTopologyListener(corridors);
+
+            for (int clusterSize : CLUSTER_SIZES) {
+                System.gc();
+                long before = heapUsed();
+                long start = System.nanoTime();
+                HierarchicalPathfinder hierarchical = new HierarchicalPathfinder(grid, clusterSize);
+                double buildMs = (System.nanoTime() - start) / 1e6;
+                System.gc();
+                long retained = Math.max(0, heapUsed() - before);
+
+                if (!samePathLengths(grid, flat, hierarchical, starts, targets)) {
+                    System.out.println(size + "\tpath lengths differ");
+                    return;
+                }
+                measure(size, "HPA* " + clusterSize, grid, hierarchical, starts, targets, buildMs, retained);
+                grid.removeTopologyListener(hierarchical);
+            }
+        }
+    }
+
+    /**
+     * Times the queries with one pathfinder, after a warm-up round, and prints a row.
+     *
+     * @param size the side of the square maze
+     * @param name the name of the pathfinder
+     * @param grid the maze
+     * @param pathfinder the pathfinder to measure
+     * @param starts the start cells of the queries
+     * @param targets the target cells of the queries
+     * @param buildMs the time spent building the pathfinder
+     * @param retained the heap the pathfinder keeps
+     */
+    private static void measure(int size, String name, GridGraph grid, PathfindingStrategy pathfinder,
+            int[] starts, int[] targets, double buildMs, long retained) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Warm up so class loading and JIT work are not counted
+        for (int i = 0; i < QUERIES; i++) {
+            firstStep(grid, pathfinder, starts[i], targets[i]);
+            pathLength(grid, pathfinder, starts[i], targets[i]);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            firstStep(grid, pathfinder, starts[i], targets[i]);
+        }
+        double firstUs = (System.nanoTime() - start) / 1e3 / QUERIES;
+
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            pathLength(grid, pathfinder, starts[i], targets[i]);
+        }
+        double fullUs = (System.nanoTime() - start) / 1e3 / QUERIES;
+        allocated = (threads.getThreadAllocatedBytes(thread) - allocated) / QUERIES;
+
+        System.out.printf("%dx%d\t%s\t%.1f\t%,d\t%.1f\t%.1f\t%,d%n", size, size, name, buildMs, retained,
+                firstUs, fullUs, allocated);
+    }
+
+    /**
+     * Returns true if two pathfinders find paths of the same length for every query.
+     *
+     * @param grid the maze
+     * @param reference the pathfinder to compare against
+     * @param pathfinder the pathfinder being checked
+     * @param starts the start cells of the queries
+     * @param targets the target cells of the queries
+     * @return true if all path lengths match
+     */
+    private static boolean samePathLengths(GridGraph grid, PathfindingStrategy reference,
+            PathfindingStrategy pathfinder, int[] starts, int[] targets) {
+        for (int i = 0; i < starts.length; i++) {
+            if (pathLength(grid, reference, starts[i], targets[i])
+                    != pathLength(grid, pathfinder, starts[i], targets[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Asks for a path and takes only its first step, as a bot does.
+     *
+     * @param grid the maze
+     * @param pathfinder the pathfinder to ask
+     * @param start the start cell
+     * @param target the target cell
+     * @return the room of the first step, or null if there is none
+     */
+    private static Room firstStep(GridGraph grid, PathfindingStrategy pathfinder, int start, int target) {
+        Iterator<Room> path = pathfinder.shortestPath(grid, start, target);
+        if (path.hasNext()) {
+            path.next();
+        }
+        return path.hasNext() ? path.next() : null;
+    }
+
+    /**
+     * Asks for a path and walks all of it.
+     *
+     * @param grid the maze
+     * @param pathfinder the pathfinder to ask
+     * @param start the start cell
+     * @param target the target cell
+     * @return the number of steps of the path, or -1 if there is no path
+     */
+    private static int pathLength(GridGraph grid, PathfindingStrategy pathfinder, int start, int target) {
+        Iterator<Room> path = pathfinder.shortestPath(grid, start, target);
+        int length = -1;
+        while (path.hasNext()) {
+            path.next();
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the heap currently in use, summed over the heap memory pools.
+     *
+     * @return the used heap in bytes
+     */
+    private static long heapUsed() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+}
@@ -0,0 +1,127 @@
+package GameEngine;
+
+import DataStructures.Graph.DijkstraPathfinder;
+import DataStructures.Graph.GameGraph;
+import DataStructures.Iterator;
+import Models.Connection;
+import Models.Room;
+
+/**
+ * ShortestPathBenchmark times Dijkstra over the indexed binary heap against the
+ * former Dijkstra that found the next room with a linear scan over every
+ * unvisited room. Both answer the bot query from a corner of a generated maze
+ * to its centre, and their path lengths are checked against each other first.
+ * The linear scan is O(V^2) per query, so the largest maze takes tens of
+ * seconds with it.
+ */
+public class ShortestPathBenchmark {
+
+    private static final int[] SIZES = {21, 101, 501};
+
+    public static void main(String[] args) {
+        System.out.println("size\theap (ms/query)\tlinear scan (ms/query)\tspeedup");
+        DijkstraPathfinder heap = new DijkstraPathfinder();
+        for (int size : SIZES) {
+            GameMapGenerator map = new GameMapGenerator(size, size, false);
+            map.generateMap();
+            GameGraph graph = map.getGraph();
+            int start = graph.getIndex(map.getRoom(0, 0));
+            int target = graph.getIndex(map.getRoom(size / 2, size / 2));
+
+            if (pathLength(heap.shortestPath(graph, start, target)) != linearScanDistance(map, start, target)) {
+                System.out.println(size + "\tpath lengths differ");
+                continue;
+            }
+
+            // Repeat small mazes so each measurement runs long enough to be stable
+            int heapRepeats = Math.max(3, 2_000_000 / (size * size));
+            int scanRepeats = Math.max(1, 200_000_000 / (size * size * size * size));
+            for (int i = 0; i < heapRepeats; i++) {
+                pathLength(heap.shortestPath(graph, start, target));
+            }
+            // The linear scan is only warmed up where one query is short
+            for (int i = 1; i < scanRepeats; i++) {
+                linearScanDistance(map, start, target);
+            }
+
+            long begin = System.nanoTime();
+            for (int i = 0; i < heapRepeats; i++) {
+                pathLength(heap.shortestPath(graph, start, target));
+            }
+            double heapMs = (System.nanoTime() - begin) / 1e6 / heapRepeats;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < scanRepeats; i++) {
+                linearScanDistance(map, start, target);
+            }
+            double scanMs = (System.nanoTime() - begin) / 1e6 / scanRepeats;
+
+            System.out.printf("%dx%d\t%.3f\t%.3f\t%.1fx%n", size, size, heapMs, scanMs, scanMs / heapMs);
+        }
+    }
+
+    /**
+     * Walks a path and counts its steps.
+     *
+     * @param path the rooms of the path, starting with the start room
+     * @return the number of steps of the path, or -1 if it is empty
+     */
+    private static int pathLength(Iterator<Room> path) {
+        int length = -1;
+        while (path.hasNext()) {
+            path.next();
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Runs Dijkstra the way GameGraph did before the heap: every round scans all
+     * unvisited rooms for the one with the smallest distance, then relaxes its
+     * unlocked connections.
+     *
+     * @param map the maze, whose room indices are its grid cells
+     * @param start the index of the start room
+     * @param target the index of the target room
+     * @return the distance from start to target, or -1 if it is unreachable
+     */
+    private static int linearScanDistance(GameMapGenerator map, int start, int target) {
+        GameGraph graph = map.getGraph();
+        int count = map.getWidth() * map.getHeight();
+        double[] dist = new double[count];
+        boolean[] visited = new boolean[count];
+        Connection[] conns = new Connection[GameGraph.MAX_ROOM_CONNECTIONS];
+        for (int i = 0; i < count; i++) {
+            dist[i] = Double.MAX_VALUE;
+        }
+        dist[start] = 0;
+
+        for (int i = 0; i < count; i++) {
+            int u = -1;
+            double minDist = Double.MAX_VALUE;
+            for (int j = 0; j < count; j++) {
+                if (!visited[j] && dist[j] < minDist) {
+                    minDist = dist[j];
+                    u = j;
+                }
+            }
+            if (u == -1 || u == target) {
+                break;
+            }
+            visited[u] = true;
+
+            Room room = graph.getVertex(u);
+            int connCount = graph.getConnections(u, conns);
+            for (int c = 0; c < connCount; c++) {
+                if (conns[c].isLocked()) {
+                    continue;
+                }
+                int v = graph.getIndex(conns[c].getOther(room));
+                if (!visited[v] && dist[u] + 1 < dist[v]) {
+                    dist[v] = dist[u] + 1;
+                }
+            }
+        }
+        return dist[target] == Double.MAX_VALUE ? -1 : (int) dist[target];
+    }
+}
@@ -0,0 +1,90 @@
+package GameEngine;
+
+import DataStructures.Graph.GameGraph;
+import DataStructures.Iterator;
+import Models.Room;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * TraversalBenchmark compares the eager breadth and depth first traversals of
+ * a map graph with the lazy ones. Each traversal starts at the centre room of
+ * a generated maze and is timed twice: until its first room is returned, as a
+ * caller that stops early sees it, and until it has returned every room. The
+ * bytes each run allocates are reported next to its time. Large mazes need a
+ * big heap, e.g. {@code java -Xmx4g GameEngine.TraversalBenchmark}.
+ */
+public class TraversalBenchmark {
+
+    private static final int[] SIZES = {501, 1001};
+    private static final int REPEATS = 10;
+
+    public static void main(String[] args) {
+        System.out.println("size\ttraversal\tfirst room (ms)\tfirst room (bytes)\tall rooms (ms)\tall rooms (bytes)");
+        for (int size : SIZES) {
+            GameMapGenerator map = new GameMapGenerator(size, size, false);
+            map.generateMap();
+            GameGraph graph = map.getGraph();
+            Room centre = map.getRoom(size / 2, size / 2);
+
+            measure(size, "eager BFS", () -> graph.iteratorBFS(centre));
+            measure(size, "lazy BFS", () -> graph.lazyIteratorBFS(centre));
+            measure(size, "eager DFS", () -> graph.iteratorDFS(centre));
+            measure(size, "lazy DFS", () -> graph.lazyIteratorDFS(centre));
+        }
+    }
+
+    /**
+     * Times one traversal to its first room and to its last, after a warm-up
+     * round, and prints a row.
+     *
+     * @param size the side of the square maze
+     * @param name the name of the traversal
+     * @param traversal starts a new traversal
+     */
+    private static void measure(int size, String name, Supplier<Iterator<Room>> traversal) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Warm up so class loading and JIT work are not counted
+        for (int i = 0; i < REPEATS; i++) {
+            traversal.get().next();
+            walk(traversal.get());
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEATS; i++) {
+            traversal.get().next();
+        }
+        double firstMs = (System.nanoTime() - start) / 1e6 / REPEATS;
+        long firstBytes = (threads.getThreadAllocatedBytes(thread) - allocated) / REPEATS;
+
+        allocated = threads.getThreadAllocatedBytes(thread);
+        start = System.nanoTime();
+        for (int i = 0; i < REPEATS; i++) {
+            walk(traversal.get());
+        }
+        double allMs = (System.nanoTime() - start) / 1e6 / REPEATS;
+        long allBytes = (threads.getThreadAllocatedBytes(thread) - allocated) / REPEATS;
+
+        System.out.printf("%dx%d\t%s\t%.3f\t%,d\t%.1f\t%,d%n", size, size, name, firstMs, firstBytes,
+                allMs, allBytes);
+    }
+
+    /**
+     * Returns every room of a traversal and counts them.
+     *
+     * @param rooms the traversal
+     * @return the number of rooms returned
+     */
+    private static int walk(Iterator<Room> rooms) {
+        int count = 0;
+        while (rooms.hasNext()) {
+            rooms.next();
+            count++;
+        }
+        return count;
+    }
+}
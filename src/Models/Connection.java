@@ -1,10 +1,18 @@
 package Models;
 
+import DataStructures.Graph.GameGraph;
+
 /**
- * Connection represents a link between two rooms in the game map,
+ * Connection represents a passage between two rooms in the game map,
  * allowing player movement between connected rooms. Each connection
  * can be locked and may require a specific item as a key to unlock
  * and traverse.
+ *
+ * A passage is undirected: the graph stores a single Connection for it
+ * under both of its rooms, so the lock is shared by both directions and
+ * a lever that holds the Connection controls the whole passage. The
+ * from and to rooms only record the order in which the passage was
+ * created; use getOther(Room) to walk the passage from a given room.
  */
 public class Connection {
 
@@ -15,6 +23,7 @@ public class Connection {
     private Room to;
     private boolean isLocked;
     private Item key;
+    private GameGraph graph;
 
     // ----------------------------------------------------------------
     // Constructor
@@ -56,6 +65,35 @@ public class Connection {
         return to;
     }
 
+    /**
+     * Returns the room at the other end of this passage, seen from one of its
+     * rooms. This is the directional view of the connection and costs no lookup.
+     *
+     * @param room one of the two rooms joined by this connection
+     * @return the room at the opposite end
+     * @throws IllegalArgumentException if the room is not an end of this connection
+     */
+    public Room getOther(Room room) {
+        if (room == from) {
+            return to;
+        }
+        if (room == to) {
+            return from;
+        }
+        throw new IllegalArgumentException("Sala não pertence à ligação.");
+    }
+
+    /**
+     * Returns true if this connection joins the two given rooms, in either order.
+     *
+     * @param room1 one room
+     * @param room2 the other room
+     * @return true if the rooms are the two ends of this connection
+     */
+    public boolean joins(Room room1, Room room2) {
+        return (room1 == from && room2 == to) || (room1 == to && room2 == from);
+    }
+
     /**
      * Returns whether this connection is currently locked.
      *
@@ -66,12 +104,27 @@ public class Connection {
     }
 
     /**
-     * Sets the locked state of this connection.
+     * Sets the locked state of this connection, for both directions of the passage.
      *
      * @param locked true to lock the connection, false to unlock it
      */
     public void setLocked(boolean locked) {
         isLocked = locked;
+        // Let the owning graph mirror the new state in its own edge storage
+        if (graph != null) {
+            graph.lockChanged(this);
+        }
+    }
+
+    /**
+     * Sets the graph that stores this connection. The graph is notified
+     * whenever the locked state changes so it can keep any packed lock
+     * information in sync with this object.
+     *
+     * @param graph the graph this connection belongs to, or null to detach it
+     */
+    public void setGraph(GameGraph graph) {
+        this.graph = graph;
     }
 
     /**
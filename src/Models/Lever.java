@@ -26,7 +26,8 @@ public class Lever {
      * Initializes the targets list as an empty ArrayUnorderedList.
      */
     public Lever() {
-        this.targets = new ArrayUnorderedList<>();
+        // A lever normally locks a single passage, whose one connection covers both directions
+        this.targets = new ArrayUnorderedList<>(1);
         this.active = false;
     }
 
@@ -37,12 +38,15 @@ public class Lever {
      * Adds a connection to this lever's list of targets and sets the
      * connection's locked state based on the lever's current active state.
      * If the lever is active, the connection is unlocked; if inactive,
-     * the connection is locked.
+     * the connection is locked. A connection that is already a target is
+     * not added twice.
      *
      * @param c the connection to add as a target
      */
     public void addTarget(Connection c) {
-        targets.add(c);
+        if (!targets.contains(c)) {
+            targets.add(c);
+        }
         c.setLocked(!active);
     }
 
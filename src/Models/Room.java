@@ -280,4 +280,17 @@ public class Room {
         Room room = (Room) obj;
         return x == room.x && y == room.y;
     }
+
+    /**
+     * Returns a hash code consistent with equals, derived from the room coordinates.
+     * Lets rooms be used as keys in hashed structures such as the graph vertex index.
+     * Each coordinate keeps its own 16 bits, so rooms of maps up to 65536 rooms wide
+     * never share a hash code.
+     *
+     * @return the hash code of this room
+     */
+    @Override
+    public int hashCode() {
+        return (x << 16) ^ y;
+    }
 }
@@ -1,5 +1,6 @@
 package UI;
 
+import DataStructures.HashMap.LinearProbingHashMap;
 import DataStructures.Iterator;
 import GameEngine.GameManager;
 import Models.Connection;
@@ -73,37 +74,9 @@ public class MapPanel extends JPanel {
     }
 
     // Animation State
-    private final DataStructures.ArrayList.ArrayUnorderedList<PlayerAnimationPair> playerAnimations = new DataStructures.ArrayList.ArrayUnorderedList<>();
+    private final LinearProbingHashMap<Player, AnimationState> playerAnimations = new LinearProbingHashMap<>();
     private final Timer animationTimer;
 
-    private static class PlayerAnimationPair {
-
-        Player player;
-        AnimationState state;
-
-        /**
-         * Creates a new PlayerAnimationPair associating a player with their animation state.
-         *
-         * @param p the player whose animation is tracked
-         * @param s the AnimationState containing position and timing information
-         */
-        public PlayerAnimationPair(Player p, AnimationState s) {
-            this.player = p;
-            this.state = s;
-        }
-    }
-
-    private AnimationState getAnimationState(Player p) {
-        DataStructures.Iterator<PlayerAnimationPair> it = playerAnimations.iterator();
-        while (it.hasNext()) {
-            PlayerAnimationPair pair = it.next();
-            if (pair.player.equals(p)) {
-                return pair.state;
-            }
-        }
-        return null;
-    }
-
     private static class AnimationState {
 
         int startX, startY;
@@ -295,10 +268,10 @@ public class MapPanel extends JPanel {
                 int targetPy = offsetY + r.getY() * cellSize;
 
                 // Get or create animation state for this player
-                AnimationState state = getAnimationState(p);
+                AnimationState state = playerAnimations.get(p);
                 if (state == null) {
                     state = new AnimationState(targetPx, targetPy);
-                    playerAnimations.addToRear(new PlayerAnimationPair(p, state));
+                    playerAnimations.put(p, state);
                 }
 
                 // Check if target position changed and initialize animation
@@ -433,8 +406,8 @@ public class MapPanel extends JPanel {
 
     /**
      * Retrieves the connection between two adjacent rooms.
-     * Searches through all connections of the given room to find one leading to
-     * the target room at the specified coordinates.
+     * Looks the target room up by its coordinates and asks the graph for the
+     * connection leading to it, without listing the connections of the room.
      *
      * @param r the Room to search connections from
      * @param targetX the x-coordinate of the target room
@@ -442,15 +415,11 @@ public class MapPanel extends JPanel {
      * @return the Connection if one exists, null otherwise
      */
     private Connection getConnection(Room r, int targetX, int targetY) {
-        Iterator<Connection> it = gameManager.getGameMap().getGraph().getConnections(r).iterator();
-        while (it.hasNext()) {
-            Connection c = it.next();
-            Room target = c.getTo();
-            if (target.getX() == targetX && target.getY() == targetY) {
-                return c;
-            }
+        Room target = gameManager.getGameMap().getRoom(targetX, targetY);
+        if (target == null) {
+            return null;
         }
-        return null;
+        return gameManager.getGameMap().getGraph().getConnection(r, target);
     }
 
     /**
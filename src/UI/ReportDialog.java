@@ -554,7 +554,7 @@ public class ReportDialog extends JDialog {
             Iterator<Models.Connection> it = gameMap.getGraph().getConnections(room).iterator();
             while (it.hasNext()) {
                 Models.Connection c = it.next();
-                Models.Room to = c.getTo();
+                Models.Room to = c.getOther(room);
                 if (to.getX() == targetX && to.getY() == targetY) {
                     return true;
                 }
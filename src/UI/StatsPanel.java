@@ -1,6 +1,7 @@
 package UI;
 
 import DataStructures.ArrayList.ArrayUnorderedList;
+import DataStructures.HashMap.LinearProbingHashMap;
 import DataStructures.Iterator;
 import Models.Player;
 import Utils.GameConfig;
@@ -18,31 +19,10 @@ import javax.swing.*;
 public class StatsPanel extends JPanel {
 
     private ArrayUnorderedList<Player> players;
-    private final DataStructures.ArrayList.ArrayUnorderedList<PlayerIconPair> playerIcons = new DataStructures.ArrayList.ArrayUnorderedList<>();
+    private final LinearProbingHashMap<String, BufferedImage> playerIcons = new LinearProbingHashMap<>();
     private final BufferedImage iconPickaxe;
     private final BufferedImage iconEnderPearl;
 
-    /**
-     * PlayerIconPair represents an association between a character name
-     * and its corresponding icon image.
-     *
-     */
-    private static class PlayerIconPair {
-        String name;
-        BufferedImage icon;
-        
-        /**
-         * Creates a new PlayerIconPair with the specified name and icon.
-         *
-         * @param n the name of the player character
-         * @param i the BufferedImage icon for the character
-         */
-        public PlayerIconPair(String n, BufferedImage i) {
-            this.name = n;
-            this.icon = i;
-        }
-    }
-
     private final double scale;
 
     /**
@@ -78,13 +58,13 @@ public class StatsPanel extends JPanel {
 
     /**
      * Loads a player character icon by name and filename.
-     * Adds the icon to the playerIcons collection for later retrieval.
+     * Stores the icon in the playerIcons map under the character name.
      *
      * @param name the character name (e.g., "STEVE", "ALEX")
      * @param fileName the filename of the icon image
      */
     private void loadPlayerIcon(String name, String fileName) {
-        playerIcons.addToRear(new PlayerIconPair(name, ImageLoader.getImage(GameConfig.SKINS_PATH + fileName)));
+        playerIcons.put(name, ImageLoader.getImage(GameConfig.SKINS_PATH + fileName));
     }
 
     /**
@@ -96,31 +76,13 @@ public class StatsPanel extends JPanel {
      */
     private BufferedImage getPlayerIcon(String characterType) {
         String key = characterType != null ? characterType.toUpperCase() : "STEVE";
-        BufferedImage icon = findIcon(key);
+        BufferedImage icon = playerIcons.get(key);
         if (icon == null) {
-            icon = findIcon("STEVE");
+            icon = playerIcons.get("STEVE");
         }
         return icon;
     }
 
-    /**
-     * Searches the playerIcons collection for an icon matching the given name.
-     * Iterates through all PlayerIconPair objects to find a match.
-     *
-     * @param name the character name to search for
-     * @return the BufferedImage icon if found, null otherwise
-     */
-    private BufferedImage findIcon(String name) {
-        DataStructures.Iterator<PlayerIconPair> it = playerIcons.iterator();
-        while (it.hasNext()) {
-            PlayerIconPair pair = it.next();
-            if (pair.name.equals(name)) {
-                return pair.icon;
-            }
-        }
-        return null;
-    }
-
     /**
      * Updates the statistics panel with information from all players.
      * Reconstructs the panel display showing current player stats, icons, 
@@ -80,6 +80,9 @@ public class GameConfig {
      * A value of 0.11 implies an 11% chance.
      */
     public static final double BRAIDING_RATE = 0.11;
+
+    /** Carve generated mazes with Kruskal's algorithm instead of the depth-first backtracker. */
+    public static final boolean KRUSKAL_MAZE = false;
     
     /** Probability of triggering a random event when moving to a corridor. */
     public static final double RANDOM_EVENT_PROBABILITY = 0.03;
@@ -228,6 +231,18 @@ public class GameConfig {
     /** Initial delay before AI starts its turn (ms). */
     public static final int AI_INITIAL_DELAY = 2000;
 
+    /** Number of BFS distance fields each map keeps cached (least recently used are evicted). */
+    public static final int DISTANCE_FIELD_CACHE_SIZE = 8;
+
+    /** Maps with at least this many rooms find paths over contracted corridors instead of flat A*. */
+    public static final int CORRIDOR_PATHFINDING_MIN_ROOMS = 128 * 128;
+
+    /** Maps with at least this many rooms find paths with HPA* instead of over corridors. */
+    public static final int HIERARCHICAL_PATHFINDING_MIN_ROOMS = 256 * 256;
+
+    /** Side, in rooms, of the square clusters used by HPA*. */
+    public static final int HIERARCHICAL_CLUSTER_SIZE = 32;
+
     /*
      * Report Window Configuration
      */
@@ -1,7 +1,6 @@
 package Utils;
 
-import DataStructures.ArrayList.ArrayUnorderedList;
-import DataStructures.Iterator;
+import DataStructures.HashMap.LinearProbingHashMap;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -9,34 +8,14 @@ import javax.imageio.ImageIO;
 
 /**
  * ImageLoader provides a utility to load and cache images from the file system.
- * It uses a list to store loaded images to avoid reading the same file multiple times.
+ * It uses a hash map keyed by file path to store loaded images to avoid reading the same file multiple times.
  */
 public class ImageLoader {
 
     /**
-     * Helper class to store the association between a file path and its loaded image.
+     * A hash map from file path to loaded texture, used to cache loaded textures.
      */
-    private static class TextureEntry {
-
-        String path;
-        BufferedImage image;
-
-        /**
-         * Creates a new TextureEntry with the specified path and image.
-         *
-         * @param path  the file path of the image
-         * @param image the loaded BufferedImage
-         */
-        public TextureEntry(String path, BufferedImage image) {
-            this.path = path;
-            this.image = image;
-        }
-    }
-
-    /**
-     * A list to cache loaded textures.
-     */
-    private static final ArrayUnorderedList<TextureEntry> textureCache = new ArrayUnorderedList<>();
+    private static final LinearProbingHashMap<String, BufferedImage> textureCache = new LinearProbingHashMap<>();
 
     /**
      * Retrieves an image from the specified path.
@@ -49,12 +28,9 @@ public class ImageLoader {
      */
     public static BufferedImage getImage(String path) {
         // Check if the image is already in the cache
-        Iterator<TextureEntry> it = textureCache.iterator();
-        while (it.hasNext()) {
-            TextureEntry entry = it.next();
-            if (entry.path.equals(path)) {
-                return entry.image;
-            }
+        BufferedImage cached = textureCache.get(path);
+        if (cached != null) {
+            return cached;
         }
 
         // If not in cache, try to load from disk
@@ -64,7 +40,7 @@ public class ImageLoader {
                 BufferedImage image = ImageIO.read(file);
                 
                 // Add the newly loaded image to the cache
-                textureCache.add(new TextureEntry(path, image));
+                textureCache.put(path, image);
                 return image;
             } else {
                 System.err.println("[ImageLoader] Ficheiro não encontrado: " + file.getAbsolutePath());
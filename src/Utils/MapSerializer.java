@@ -1,5 +1,6 @@
 package Utils;
 
+import DataStructures.Graph.GameGraph;
 import DataStructures.Iterator;
 import GameEngine.GameMapGenerator;
 import Models.Connection;
@@ -55,14 +56,19 @@ public class MapSerializer {
         // Serialize Connections section
         sb.append("  \"connections\": [\n");
         boolean firstConn = true;
+        Connection[] conns = new Connection[GameGraph.MAX_ROOM_CONNECTIONS];
         for (int x = 0; x < map.getWidth(); x++) {
             for (int y = 0; y < map.getHeight(); y++) {
                 Room r = map.getRoom(x, y);
                 
-                // Iterate over connections for the current room
-                Iterator<Connection> it = map.getGraph().getConnections(r).iterator();
-                while (it.hasNext()) {
-                    Connection c = it.next();
+                // Iterate over connections for the current room, writing each
+                // passage once, from the room it was created from
+                int connCount = map.getGraph().getConnections(r, conns);
+                for (int i = 0; i < connCount; i++) {
+                    Connection c = conns[i];
+                    if (c.getFrom() != r) {
+                        continue;
+                    }
                     if (!firstConn) {
                         sb.append(",\n");
                     }